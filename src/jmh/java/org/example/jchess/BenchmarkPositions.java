@@ -0,0 +1,111 @@
+package org.example.jchess;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+public final class BenchmarkPositions {
+
+    public static final String OPENING = "opening";
+    public static final String MIDDLEGAME = "middlegame";
+    public static final String ENDGAME = "endgame";
+    public static final String LONG_HISTORY = "long-history";
+
+    private static final int MIDDLEGAME_PLIES = 30;
+    private static final int LONG_HISTORY_PLIES = 300;
+
+    private static final BasicMoveValidator validator = new BasicMoveValidator();
+    private static final MoveGenerator generator = new LegalMoveGenerator();
+
+    private BenchmarkPositions() {
+    }
+
+    public static BoardSnapshot get(String name) {
+        switch (name) {
+            case OPENING:
+                return opening();
+            case MIDDLEGAME:
+                return playRandomly(opening(), MIDDLEGAME_PLIES);
+            case ENDGAME:
+                return endgame();
+            case LONG_HISTORY:
+                return playRandomly(opening(), LONG_HISTORY_PLIES);
+            default:
+                throw new IllegalArgumentException("Unknown position: " + name);
+        }
+    }
+
+    // 1. e4 e5 2. Nf3 Nc6 3. Bb5 a6
+    private static BoardSnapshot opening() {
+        BoardSnapshot snapshot = new BoardSnapshot(startingBoard(), new ArrayList<>());
+
+        List<Move> moves = Arrays.asList(
+                move(4, 6, 4, 4, Piece.PAWN, Color.WHITE),
+                move(4, 1, 4, 3, Piece.PAWN, Color.BLACK),
+                move(6, 7, 5, 5, Piece.KNIGHT, Color.WHITE),
+                move(1, 0, 2, 2, Piece.KNIGHT, Color.BLACK),
+                move(5, 7, 1, 3, Piece.BISHOP, Color.WHITE),
+                move(0, 1, 0, 2, Piece.PAWN, Color.BLACK)
+        );
+
+        for (Move move : moves) {
+            snapshot = validator.applyMove(snapshot, move);
+        }
+
+        return snapshot;
+    }
+
+    private static BoardSnapshot endgame() {
+        List<List<Optional<OccupiedTile>>> tiles = new Bitboard(new long[Piece.values().length * Color.values().length]).toTiles();
+
+        tiles.get(7).set(6, tile(Piece.KING, Color.WHITE));
+        tiles.get(6).set(0, tile(Piece.ROOK, Color.WHITE));
+        tiles.get(5).set(5, tile(Piece.PAWN, Color.WHITE));
+        tiles.get(6).set(6, tile(Piece.PAWN, Color.WHITE));
+        tiles.get(6).set(7, tile(Piece.PAWN, Color.WHITE));
+        tiles.get(0).set(6, tile(Piece.KING, Color.BLACK));
+        tiles.get(2).set(3, tile(Piece.ROOK, Color.BLACK));
+        tiles.get(1).set(5, tile(Piece.PAWN, Color.BLACK));
+        tiles.get(1).set(6, tile(Piece.PAWN, Color.BLACK));
+        tiles.get(2).set(7, tile(Piece.PAWN, Color.BLACK));
+
+        return new BoardSnapshot(tiles, new ArrayList<>());
+    }
+
+    // Random games are seeded so every fork of the benchmark sees the same positions
+    private static BoardSnapshot playRandomly(BoardSnapshot start, int plies) {
+        for (long seed = 0; ; seed++) {
+            Random random = new Random(seed);
+            BoardSnapshot snapshot = start;
+            int ply = 0;
+
+            for (; ply < plies; ply++) {
+                List<Move> moves = generator.generateValidMoves(snapshot);
+
+                if (moves.isEmpty()) {
+                    break;
+                }
+
+                snapshot = validator.applyMove(snapshot, moves.get(random.nextInt(moves.size())));
+            }
+
+            if (ply == plies && !generator.generateValidMoves(snapshot).isEmpty()) {
+                return snapshot;
+            }
+        }
+    }
+
+    private static List<List<Optional<OccupiedTile>>> startingBoard() {
+        return new Board(validator).getSnapshot().getTiles();
+    }
+
+    private static Optional<OccupiedTile> tile(Piece piece, Color color) {
+        return Optional.of(new OccupiedTile(piece, color));
+    }
+
+    private static Move move(int srcX, int srcY, int destX, int destY, Piece piece, Color color) {
+        return new Move(new Position(srcX, srcY), new Position(destX, destY), piece, color, Optional.empty());
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.jchess;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EngineBenchmark {
+
+    @Param({BenchmarkPositions.OPENING, BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.ENDGAME, BenchmarkPositions.LONG_HISTORY})
+    public String position;
+
+    private BasicMoveValidator validator;
+    private MoveGenerator basicGenerator;
+    private MoveGenerator pseudoLegalGenerator;
+    private MoveGenerator legalGenerator;
+    private Engine engine;
+    private MoveSerializer serializer;
+    private BinaryMoveSerializer binarySerializer;
+    private Evaluator materialEvaluator;
+    private Evaluator pieceSquareEvaluator;
+
+    private BoardSnapshot snapshot;
+    private List<Move> moves;
+    private Move move;
+    private Move[] moveArray;
+    private Move[] decodedMoves;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        validator = new BasicMoveValidator();
+        basicGenerator = new BasicMoveGenerator(validator);
+        pseudoLegalGenerator = new PseudoLegalMoveGenerator(validator);
+        legalGenerator = new LegalMoveGenerator();
+        engine = new BasicEngine(validator, legalGenerator, validator);
+        serializer = new BasicMoveSerializer();
+        binarySerializer = new BinaryMoveSerializer();
+        materialEvaluator = new MaterialEvaluator();
+        pieceSquareEvaluator = new PieceSquareEvaluator();
+
+        snapshot = BenchmarkPositions.get(position);
+        moves = pseudoLegalGenerator.generateValidMoves(snapshot);
+        move = moves.get(moves.size() / 2);
+        moveArray = moves.toArray(new Move[0]);
+        decodedMoves = new Move[moveArray.length];
+        buffer = ByteBuffer.allocateDirect(moveArray.length * BinaryMoveSerializer.PROMOTION_BYTES);
+    }
+
+    @Benchmark
+    public List<Move> basicGenerateValidMoves() {
+        return basicGenerator.generateValidMoves(snapshot);
+    }
+
+    @Benchmark
+    public List<Move> pseudoLegalGenerateValidMoves() {
+        return pseudoLegalGenerator.generateValidMoves(snapshot);
+    }
+
+    @Benchmark
+    public List<Move> legalGenerateValidMoves() {
+        return legalGenerator.generateValidMoves(snapshot);
+    }
+
+    @Benchmark
+    public void isValidAllMoves(Blackhole blackhole) {
+        for (Move m : moves) {
+            blackhole.consume(validator.isValid(snapshot, m));
+        }
+    }
+
+    @Benchmark
+    public BoardSnapshot applyMove() {
+        return validator.applyMove(snapshot, move);
+    }
+
+    @Benchmark
+    public Report analyseBoard() {
+        return engine.analyseBoard(snapshot);
+    }
+
+    @Benchmark
+    public int materialEvaluate() {
+        return materialEvaluator.evaluate(snapshot);
+    }
+
+    @Benchmark
+    public int pieceSquareEvaluate() {
+        return pieceSquareEvaluator.evaluate(snapshot);
+    }
+
+    @Benchmark
+    public void serializerRoundTripAllMoves(Blackhole blackhole) {
+        for (Move m : moves) {
+            blackhole.consume(serializer.deserialize(serializer.serialize(m)));
+        }
+    }
+
+    @Benchmark
+    public void binarySerializerRoundTripAllMoves(Blackhole blackhole) {
+        for (Move m : moves) {
+            blackhole.consume(binarySerializer.deserialize(binarySerializer.serialize(m)));
+        }
+    }
+
+    @Benchmark
+    public Move[] binarySerializerBatchRoundTrip() {
+        buffer.clear();
+        binarySerializer.serialize(moveArray, 0, moveArray.length, buffer);
+        buffer.flip();
+        binarySerializer.deserialize(buffer, decodedMoves, 0);
+        return decodedMoves;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.jchess;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Time to reach a fixed depth, starting from an empty table each time, as the number of threads grows
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazySmpBenchmark {
+
+    private static final int TABLE_SIZE_MB = 128;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"6"})
+    public int depth;
+
+    @Param({BenchmarkPositions.MIDDLEGAME})
+    public String position;
+
+    private TranspositionTable table;
+    private LazySmpSearcher searcher;
+    private BoardSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        table = new TranspositionTable(TABLE_SIZE_MB);
+        searcher = new LazySmpSearcher(() -> {
+            BasicMoveValidator validator = new BasicMoveValidator();
+            return new AlphaBetaSearcher(new LegalMoveGenerator(), validator, validator, new MaterialEvaluator(), table);
+        }, threads);
+        snapshot = BenchmarkPositions.get(position);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearTable() {
+        table.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        searcher.close();
+    }
+
+    @Benchmark
+    public SearchResult timeToDepth() {
+        return searcher.search(snapshot, SearchLimits.depth(depth));
+    }
+}
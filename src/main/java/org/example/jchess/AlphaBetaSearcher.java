@@ -0,0 +1,366 @@
+package org.example.jchess;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public final class AlphaBetaSearcher implements Searcher {
+
+    private static final int INFINITY = MATE + 1;
+    private static final int CHECK_INTERVAL = 1023;
+
+    private final MoveGenerator generator;
+    private final MoveApplier applier;
+    private final CheckChecker checker;
+    private final Evaluator evaluator;
+    private final Optional<TranspositionTable> table;
+    private final Optional<Tablebase> tablebase;
+
+    // Triangular principal variation table: row 'ply' holds the best line found from that ply onwards
+    private final Move[][] pv = new Move[MAX_PLY + 1][MAX_PLY + 1];
+    private final int[] pvLength = new int[MAX_PLY + 1];
+    private final long[] keys = new long[MAX_PLY + 1];
+
+    private volatile boolean stopped;
+    private boolean canStop;
+    private boolean followPv;
+    private List<Move> previousPv = List.of();
+    private long nodes;
+    private long nodeLimit;
+    private long startNanos;
+    private long budgetNanos;
+
+    public AlphaBetaSearcher(MoveGenerator generator, MoveApplier applier, CheckChecker checker, Evaluator evaluator) {
+        this(generator, applier, checker, evaluator, Optional.empty(), Optional.empty());
+    }
+
+    public AlphaBetaSearcher(MoveGenerator generator, MoveApplier applier, CheckChecker checker, Evaluator evaluator,
+                             TranspositionTable table) {
+        this(generator, applier, checker, evaluator, Optional.of(table), Optional.empty());
+    }
+
+    public AlphaBetaSearcher(MoveGenerator generator, MoveApplier applier, CheckChecker checker, Evaluator evaluator,
+                             TranspositionTable table, Tablebase tablebase) {
+        this(generator, applier, checker, evaluator, Optional.of(table), Optional.of(tablebase));
+    }
+
+    private AlphaBetaSearcher(MoveGenerator generator, MoveApplier applier, CheckChecker checker, Evaluator evaluator,
+                              Optional<TranspositionTable> table, Optional<Tablebase> tablebase) {
+        this.generator = Objects.requireNonNull(generator);
+        this.applier = Objects.requireNonNull(applier);
+        this.checker = Objects.requireNonNull(checker);
+        this.evaluator = Objects.requireNonNull(evaluator);
+        this.table = Objects.requireNonNull(table);
+        this.tablebase = Objects.requireNonNull(tablebase);
+    }
+
+    @Override
+    public SearchResult search(BoardSnapshot boardSnapshot, SearchLimits limits, Consumer<SearchResult> onIteration) {
+        Objects.requireNonNull(boardSnapshot);
+        Objects.requireNonNull(limits);
+        Objects.requireNonNull(onIteration);
+
+        stopped = false;
+        table.ifPresent(TranspositionTable::newSearch);
+
+        return iterate(boardSnapshot, limits, onIteration, 1);
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    // Lazy SMP helpers share the table and the stop signal of the main search, so they must neither age the table
+    // nor clear a stop request which arrived before they started
+    void prepareHelper() {
+        stopped = false;
+    }
+
+    SearchResult searchAsHelper(BoardSnapshot boardSnapshot, int firstDepth) {
+        return iterate(boardSnapshot, SearchLimits.depth(SearchLimits.MAX_DEPTH), result -> { }, firstDepth);
+    }
+
+    private SearchResult iterate(BoardSnapshot boardSnapshot, SearchLimits limits, Consumer<SearchResult> onIteration, int firstDepth) {
+        startNanos = System.nanoTime();
+        budgetNanos = TimeUnit.MILLISECONDS.toNanos(limits.getTimeMillis());
+        nodeLimit = limits.getNodes();
+        nodes = 0;
+        canStop = false;
+        previousPv = List.of();
+
+        // Whatever happens, there is a legal move to fall back on
+        List<Move> rootMoves = generator.generateValidMoves(boardSnapshot);
+        SearchResult result = new SearchResult(rootMoves.isEmpty() ? List.of() : List.of(rootMoves.get(0)), 0, 0, 0, 0);
+
+        for (int depth = firstDepth; depth <= limits.getDepth(); depth++) {
+            followPv = true;
+            int score = negamax(boardSnapshot, depth, 0, -INFINITY, INFINITY);
+
+            if (stopped) {
+                break;
+            }
+
+            previousPv = List.of(Arrays.copyOf(pv[0], pvLength[0]));
+            result = new SearchResult(previousPv, score, depth, nodes, elapsedMillis());
+            onIteration.accept(result);
+
+            // Budgets are only enforced once an iteration has completed, so there is always a searched move to play
+            canStop = true;
+
+            if (Math.abs(score) >= MATE - depth) {
+                break;
+            }
+        }
+
+        return new SearchResult(result.getPrincipalVariation(), result.getScore(), result.getDepth(), nodes, elapsedMillis());
+    }
+
+    private int negamax(BoardSnapshot boardSnapshot, int depth, int ply, int alpha, int beta) {
+        pvLength[ply] = ply;
+        keys[ply] = boardSnapshot.getKey();
+
+        if (ply > 0 && isDraw(boardSnapshot, ply)) {
+            return 0;
+        }
+
+        // Covered endgames are known exactly, so the root is the only such position that still needs a search for its move
+        if (ply > 0 && tablebase.isPresent() &&
+                Long.bitCount(boardSnapshot.getBitboard().getOccupancy()) <= Tablebase.MAX_PIECES) {
+            Optional<TablebaseResult> result = tablebase.get().probe(boardSnapshot);
+
+            if (result.isPresent()) {
+                nodes++;
+                return result.get().toScore(ply);
+            }
+        }
+
+        if (depth <= 0 || ply >= MAX_PLY) {
+            return quiescence(boardSnapshot, ply, alpha, beta);
+        }
+
+        if (countNode()) {
+            return 0;
+        }
+
+        int tableMove = TranspositionTable.NO_MOVE;
+
+        if (table.isPresent()) {
+            long entry = table.get().probe(boardSnapshot.getKey());
+
+            if (entry != TranspositionTable.MISS) {
+                tableMove = TranspositionTable.getMove(entry);
+
+                if (ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+                    int score = fromTable(TranspositionTable.getScore(entry), ply);
+                    int bound = TranspositionTable.getBound(entry);
+
+                    if (bound == TranspositionTable.EXACT ||
+                            (bound == TranspositionTable.LOWER_BOUND && score >= beta) ||
+                            (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+                        return score;
+                    }
+                }
+            }
+        }
+
+        List<Move> moves = generator.generateValidMoves(boardSnapshot);
+
+        if (moves.isEmpty()) {
+            return isInCheck(boardSnapshot) ? -MATE + ply : 0;
+        }
+
+        orderMoves(boardSnapshot, moves, ply, tableMove);
+
+        int originalAlpha = alpha;
+        Move bestMove = null;
+
+        for (Move move : moves) {
+            int score = -negamax(applier.applyMove(boardSnapshot, move), depth - 1, ply + 1, -beta, -alpha);
+            followPv = false;
+
+            if (stopped) {
+                return 0;
+            }
+
+            if (score > alpha) {
+                alpha = score;
+                bestMove = move;
+                updatePv(ply, move);
+
+                if (alpha >= beta) {
+                    break;
+                }
+            }
+        }
+
+        if (table.isPresent()) {
+            int bound = alpha >= beta ? TranspositionTable.LOWER_BOUND :
+                        alpha > originalAlpha ? TranspositionTable.EXACT :
+                        TranspositionTable.UPPER_BOUND;
+            int move = bestMove != null ? TranspositionTable.packMove(bestMove) : TranspositionTable.NO_MOVE;
+
+            table.get().store(boardSnapshot.getKey(), move, toTable(alpha, ply), depth, bound);
+        }
+
+        return alpha;
+    }
+
+    private int quiescence(BoardSnapshot boardSnapshot, int ply, int alpha, int beta) {
+        pvLength[ply] = ply;
+
+        if (countNode()) {
+            return 0;
+        }
+
+        if (ply >= MAX_PLY) {
+            return evaluator.evaluate(boardSnapshot);
+        }
+
+        // A side in check may not decline to move, so it neither stands pat nor limits itself to captures
+        boolean inCheck = isInCheck(boardSnapshot);
+
+        if (!inCheck) {
+            int standPat = evaluator.evaluate(boardSnapshot);
+
+            if (standPat >= beta) {
+                return beta;
+            }
+
+            alpha = Math.max(alpha, standPat);
+        }
+
+        List<Move> moves = generator.generateValidMoves(boardSnapshot);
+
+        if (moves.isEmpty()) {
+            return inCheck ? -MATE + ply : 0;
+        }
+
+        List<Move> captures = new ArrayList<>();
+        for (Move move : moves) {
+            if (inCheck || isCapture(boardSnapshot, move) || move.getPromotedTo().isPresent()) {
+                captures.add(move);
+            }
+        }
+
+        captures.sort(Comparator.comparingInt(m -> -captureScore(boardSnapshot, m)));
+
+        for (Move move : captures) {
+            int score = -quiescence(applier.applyMove(boardSnapshot, move), ply + 1, -beta, -alpha);
+
+            if (stopped) {
+                return 0;
+            }
+
+            if (score >= beta) {
+                return beta;
+            }
+
+            if (score > alpha) {
+                alpha = score;
+                updatePv(ply, move);
+            }
+        }
+
+        return alpha;
+    }
+
+    // Returns true when the search has to be abandoned
+    private boolean countNode() {
+        nodes++;
+
+        if (canStop && (nodes >= nodeLimit ||
+                ((nodes & CHECK_INTERVAL) == 0 && System.nanoTime() - startNanos >= budgetNanos))) {
+            stopped = true;
+        }
+
+        return stopped;
+    }
+
+    private boolean isInCheck(BoardSnapshot boardSnapshot) {
+        return checker.isUnderCheck(boardSnapshot.getBitboard(), boardSnapshot.getSideToMove());
+    }
+
+    // Only repetitions along the searched line are seen, which is enough to keep the search from shuffling pieces
+    private boolean isDraw(BoardSnapshot boardSnapshot, int ply) {
+        if (boardSnapshot.getHalfmoveClock() >= 100) {
+            return true;
+        }
+
+        int earliest = Math.max(0, ply - boardSnapshot.getHalfmoveClock());
+        for (int i = ply - 2; i >= earliest; i -= 2) {
+            if (keys[i] == keys[ply]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // The previous iteration's principal variation is searched first, then the table move, then captures by most valuable victim
+    private void orderMoves(BoardSnapshot boardSnapshot, List<Move> moves, int ply, int tableMove) {
+        Move pvMove = followPv && ply < previousPv.size() ? previousPv.get(ply) : null;
+
+        if (pvMove == null || !moves.contains(pvMove)) {
+            followPv = false;
+            pvMove = null;
+        }
+
+        Move hint = pvMove;
+        moves.sort(Comparator.comparingInt(m -> m.equals(hint) ? Integer.MIN_VALUE :
+                                                TranspositionTable.matches(tableMove, m) ? Integer.MIN_VALUE + 1 :
+                                                -captureScore(boardSnapshot, m)));
+    }
+
+    // Mate scores are stored relative to the node so that they stay correct wherever the position is reached again
+    private int toTable(int score, int ply) {
+        return score > MATE - MAX_PLY ? score + ply :
+               score < -MATE + MAX_PLY ? score - ply :
+               score;
+    }
+
+    private int fromTable(int score, int ply) {
+        return score > MATE - MAX_PLY ? score - ply :
+               score < -MATE + MAX_PLY ? score + ply :
+               score;
+    }
+
+    private int captureScore(BoardSnapshot boardSnapshot, Move move) {
+        int score = move.getPromotedTo().map(MaterialEvaluator::valueOf).orElse(0);
+        var victim = boardSnapshot.getBitboard().getTile(move.getTo());
+
+        if (victim.isPresent()) {
+            score += 10 * MaterialEvaluator.valueOf(victim.get().getPiece()) - MaterialEvaluator.valueOf(move.getPiece()) / 10;
+        } else if (isCapture(boardSnapshot, move)) {
+            score += 10 * MaterialEvaluator.valueOf(Piece.PAWN) - MaterialEvaluator.valueOf(Piece.PAWN) / 10;
+        }
+
+        return score;
+    }
+
+    private boolean isCapture(BoardSnapshot boardSnapshot, Move move) {
+        int to = Bitboard.square(move.getTo());
+
+        return boardSnapshot.getBitboard().isOccupied(to) ||
+                (move.getPiece() == Piece.PAWN && to == boardSnapshot.getEnPassantSquare());
+    }
+
+    private void updatePv(int ply, Move move) {
+        pv[ply][ply] = move;
+        System.arraycopy(pv[ply + 1], ply + 1, pv[ply], ply + 1, pvLength[ply + 1] - ply - 1);
+        pvLength[ply] = Math.max(pvLength[ply + 1], ply + 1);
+    }
+
+    private long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
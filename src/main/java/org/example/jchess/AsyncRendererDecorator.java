@@ -0,0 +1,103 @@
+package org.example.jchess;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Draws on a dedicated thread so that the game loop never waits for the terminal. When the renderer falls behind,
+// the oldest queued frames are dropped: snapshots are immutable and only the latest position matters to a viewer.
+// Decorators with side effects per move, such as RecordingRendererDecorator, belong outside of this one.
+public final class AsyncRendererDecorator implements Renderer, AutoCloseable {
+
+    private static final long POLL_MILLIS = 50;
+
+    private final Renderer renderer;
+    private final BlockingQueue<BoardSnapshot> frames;
+    private final Thread thread;
+
+    private final LongAdder rendered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    private volatile boolean closed;
+
+    public AsyncRendererDecorator(Renderer renderer, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, got " + capacity);
+        }
+
+        this.renderer = Objects.requireNonNull(renderer);
+        this.frames = new ArrayBlockingQueue<>(capacity);
+        this.thread = new Thread(this::renderLoop, "renderer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public void draw(BoardSnapshot snapshot) {
+        Objects.requireNonNull(snapshot);
+        checkFailure();
+
+        if (closed) {
+            throw new IllegalStateException("Renderer is closed");
+        }
+
+        while (!frames.offer(snapshot)) {
+            if (frames.poll() != null) {
+                dropped.increment();
+            }
+        }
+    }
+
+    public long getRenderedFrames() {
+        return rendered.sum();
+    }
+
+    public long getDroppedFrames() {
+        return dropped.sum();
+    }
+
+    // Renders the frames still queued, then stops the render thread
+    @Override
+    public void close() {
+        closed = true;
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the renderer", e);
+        }
+
+        checkFailure();
+    }
+
+    private void renderLoop() {
+        try {
+            while (!closed || !frames.isEmpty()) {
+                BoardSnapshot snapshot = frames.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (snapshot != null) {
+                    renderer.draw(snapshot);
+                    rendered.increment();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            failure.set(e);
+            frames.clear();
+        }
+    }
+
+    private void checkFailure() {
+        RuntimeException e = failure.get();
+
+        if (e != null) {
+            throw new IllegalStateException("Renderer failed", e);
+        }
+    }
+}
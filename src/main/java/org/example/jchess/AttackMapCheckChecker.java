@@ -0,0 +1,36 @@
+package org.example.jchess;
+
+import java.util.List;
+import java.util.Optional;
+
+public final class AttackMapCheckChecker implements CheckChecker {
+
+    // Validators ask about the same snapshot once per candidate move, so the last result is kept around.
+    // Boards are immutable and shared between snapshots, which makes an identity check enough.
+    private volatile CheckInfo last;
+
+    @Override
+    public boolean isUnderCheck(List<List<Optional<OccupiedTile>>> board, Color defender) {
+        return CheckInfo.of(Bitboard.fromTiles(board), defender).isInCheck();
+    }
+
+    @Override
+    public boolean isUnderCheck(Bitboard board, Color defender) {
+        return getCheckInfo(board, defender).isInCheck();
+    }
+
+    public CheckInfo getCheckInfo(BoardSnapshot boardSnapshot) {
+        return getCheckInfo(boardSnapshot.getBitboard(), boardSnapshot.getSideToMove());
+    }
+
+    public CheckInfo getCheckInfo(Bitboard board, Color defender) {
+        CheckInfo checkInfo = last;
+
+        if (checkInfo == null || checkInfo.getBoard() != board || checkInfo.getDefender() != defender) {
+            checkInfo = CheckInfo.of(board, defender);
+            last = checkInfo;
+        }
+
+        return checkInfo;
+    }
+}
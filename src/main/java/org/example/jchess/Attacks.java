@@ -0,0 +1,150 @@
+package org.example.jchess;
+
+public final class Attacks {
+
+    private static final int[][] KNIGHT_STEPS = {{1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}};
+    private static final int[][] KING_STEPS = {{1, 0}, {1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {-1, -1}, {0, -1}, {1, -1}};
+
+    // Directions with a positive square delta come first, so the nearest blocker is the lowest set bit
+    private static final int[][] ROOK_DIRECTIONS = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+    private static final int[][] BISHOP_DIRECTIONS = {{1, 1}, {-1, 1}, {-1, -1}, {1, -1}};
+
+    private static final long[] KNIGHT = new long[Bitboard.SQUARES];
+    private static final long[] KING = new long[Bitboard.SQUARES];
+    private static final long[][] PAWN = new long[Color.values().length][Bitboard.SQUARES];
+    private static final long[][] ROOK_RAYS = new long[ROOK_DIRECTIONS.length][Bitboard.SQUARES];
+    private static final long[][] BISHOP_RAYS = new long[BISHOP_DIRECTIONS.length][Bitboard.SQUARES];
+
+    // Squares strictly between two aligned squares, and the whole line through them; empty when not aligned
+    private static final long[][] BETWEEN = new long[Bitboard.SQUARES][Bitboard.SQUARES];
+    private static final long[][] LINE = new long[Bitboard.SQUARES][Bitboard.SQUARES];
+
+    static {
+        for (int square = 0; square < Bitboard.SQUARES; square++) {
+            int x = Bitboard.getX(square);
+            int y = Bitboard.getY(square);
+
+            KNIGHT[square] = steps(x, y, KNIGHT_STEPS);
+            KING[square] = steps(x, y, KING_STEPS);
+
+            // White pawns advance towards y == 0, black pawns towards y == 7
+            PAWN[Color.WHITE.ordinal()][square] = steps(x, y, new int[][]{{-1, -1}, {1, -1}});
+            PAWN[Color.BLACK.ordinal()][square] = steps(x, y, new int[][]{{-1, 1}, {1, 1}});
+
+            for (int d = 0; d < ROOK_DIRECTIONS.length; d++) {
+                ROOK_RAYS[d][square] = ray(x, y, ROOK_DIRECTIONS[d]);
+            }
+
+            for (int d = 0; d < BISHOP_DIRECTIONS.length; d++) {
+                BISHOP_RAYS[d][square] = ray(x, y, BISHOP_DIRECTIONS[d]);
+            }
+        }
+
+        for (int square = 0; square < Bitboard.SQUARES; square++) {
+            fillLines(square, ROOK_RAYS, ROOK_DIRECTIONS);
+            fillLines(square, BISHOP_RAYS, BISHOP_DIRECTIONS);
+        }
+    }
+
+    private Attacks() {
+    }
+
+    public static long knight(int square) {
+        return KNIGHT[square];
+    }
+
+    public static long king(int square) {
+        return KING[square];
+    }
+
+    public static long pawn(Color color, int square) {
+        return PAWN[color.ordinal()][square];
+    }
+
+    public static long rook(int square, long occupied) {
+        return slide(ROOK_RAYS, square, occupied);
+    }
+
+    public static long bishop(int square, long occupied) {
+        return slide(BISHOP_RAYS, square, occupied);
+    }
+
+    public static long queen(int square, long occupied) {
+        return rook(square, occupied) | bishop(square, occupied);
+    }
+
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    public static long line(int from, int to) {
+        return LINE[from][to];
+    }
+
+    private static long slide(long[][] rays, int square, long occupied) {
+        long attacks = 0;
+
+        for (int d = 0; d < rays.length; d++) {
+            long ray = rays[d][square];
+            long blockers = ray & occupied;
+
+            if (blockers != 0) {
+                int blocker = d < 2 ? Long.numberOfTrailingZeros(blockers) : 63 - Long.numberOfLeadingZeros(blockers);
+                ray &= ~rays[d][blocker];
+            }
+
+            attacks |= ray;
+        }
+
+        return attacks;
+    }
+
+    private static void fillLines(int square, long[][] rays, int[][] directions) {
+        for (int d = 0; d < directions.length; d++) {
+            // Opposite directions are two apart in both direction tables
+            long line = rays[d][square] | rays[(d + 2) % directions.length][square] | Bitboard.bit(square);
+            long between = 0;
+
+            for (int x = Bitboard.getX(square) + directions[d][0], y = Bitboard.getY(square) + directions[d][1];
+                 isInbounds(x, y);
+                 x += directions[d][0], y += directions[d][1]) {
+                int target = Bitboard.square(x, y);
+
+                BETWEEN[square][target] = between;
+                LINE[square][target] = line;
+                between |= Bitboard.bit(target);
+            }
+        }
+    }
+
+    private static long steps(int x, int y, int[][] deltas) {
+        long result = 0;
+
+        for (int[] delta : deltas) {
+            int destX = x + delta[0];
+            int destY = y + delta[1];
+
+            if (isInbounds(destX, destY)) {
+                result |= Bitboard.bit(Bitboard.square(destX, destY));
+            }
+        }
+
+        return result;
+    }
+
+    private static long ray(int x, int y, int[] direction) {
+        long result = 0;
+
+        for (int destX = x + direction[0], destY = y + direction[1];
+             isInbounds(destX, destY);
+             destX += direction[0], destY += direction[1]) {
+            result |= Bitboard.bit(Bitboard.square(destX, destY));
+        }
+
+        return result;
+    }
+
+    private static boolean isInbounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < Bitboard.SIZE && y < Bitboard.SIZE;
+    }
+}
@@ -9,11 +9,21 @@ public class BasicEngine implements Engine {
     private final MoveValidator validator;
     private final MoveGenerator generator;
     private final CheckChecker checker;
+    private final Optional<Tablebase> tablebase;
 
     public BasicEngine(MoveValidator validator, MoveGenerator generator, CheckChecker checker) {
+        this(validator, generator, checker, Optional.empty());
+    }
+
+    public BasicEngine(MoveValidator validator, MoveGenerator generator, CheckChecker checker, Tablebase tablebase) {
+        this(validator, generator, checker, Optional.of(tablebase));
+    }
+
+    private BasicEngine(MoveValidator validator, MoveGenerator generator, CheckChecker checker, Optional<Tablebase> tablebase) {
         this.validator = Objects.requireNonNull(validator);
         this.generator = Objects.requireNonNull(generator);
         this.checker = Objects.requireNonNull(checker);
+        this.tablebase = Objects.requireNonNull(tablebase);
     }
 
     @Override
@@ -29,28 +39,52 @@ public class BasicEngine implements Engine {
     @Override
     public Report analyseBoard(BoardSnapshot boardSnapshot) {
         var moves = generator.generateValidMoves(boardSnapshot);
-        Color player = getCurrentPlayersColor(boardSnapshot);
+        Color player = boardSnapshot.getSideToMove();
         Color opponent = getOpponentsColor(player);
 
         if (moves.size() == 0) {
-            if (checker.isUnderCheck(boardSnapshot.getTiles(), player)) {
-                return new Report(player, GameState.CHECKMATE, Optional.of(opponent));
+            if (checker.isUnderCheck(boardSnapshot.getBitboard(), player)) {
+                return new Report(player, GameState.CHECKMATE, Optional.of(opponent), opponent == Color.WHITE ? Searcher.MATE : -Searcher.MATE);
             } else {
-                return new Report(player, GameState.STALEMATE, Optional.empty());
+                return new Report(player, GameState.STALEMATE, Optional.empty(), 0);
             }
         } else {
-            if (checker.isUnderCheck(boardSnapshot.getTiles(), player)) {
-                return new Report(player, GameState.CHECK, Optional.of(opponent));
+            if (boardSnapshot.getHalfmoveClock() >= 100 || isInsufficientMaterial(boardSnapshot.getBitboard()) ||
+                    isTablebaseDraw(boardSnapshot)) {
+                return new Report(player, GameState.DRAW, Optional.empty(), 0);
+            }
+
+            // The snapshot carries its score, so reporting it costs no more than reading a field
+            int score = boardSnapshot.getEvaluation();
+
+            if (checker.isUnderCheck(boardSnapshot.getBitboard(), player)) {
+                return new Report(player, GameState.CHECK, Optional.of(opponent), score);
             } else {
-                return new Report(player, GameState.NORMAL, Optional.empty());
+                return new Report(player, GameState.NORMAL, Optional.empty(), score);
             }
         }
     }
 
-    private Color getCurrentPlayersColor(BoardSnapshot boardSnapshot) {
-        return boardSnapshot.getLastMove()
-                     .map(c -> getOpponentsColor(c.getColor()))
-                     .orElse(Color.WHITE);
+    // Bare kings, or a single minor piece against a bare king, can never deliver mate
+    private boolean isInsufficientMaterial(Bitboard board) {
+        long minors = 0;
+
+        for (Color color : Color.values()) {
+            if ((board.getPieces(Piece.PAWN, color) | board.getPieces(Piece.ROOK, color) | board.getPieces(Piece.QUEEN, color)) != 0) {
+                return false;
+            }
+
+            minors |= board.getPieces(Piece.BISHOP, color) | board.getPieces(Piece.KNIGHT, color);
+        }
+
+        return Long.bitCount(minors) <= 1;
+    }
+
+    // A covered endgame which neither side can win with best play is adjudicated at once
+    private boolean isTablebaseDraw(BoardSnapshot boardSnapshot) {
+        return tablebase.flatMap(t -> t.probe(boardSnapshot))
+                .map(result -> result.getOutcome() == TablebaseResult.Outcome.DRAW)
+                .orElse(false);
     }
 
     private Color getOpponentsColor(Color player) {
@@ -32,17 +32,14 @@ public class BasicMoveGenerator implements MoveGenerator {
                                     .map(m -> m.getColor() == Color.BLACK ? Color.WHITE : Color.BLACK)
                                     .orElse(Color.WHITE);
 
-        List<List<Optional<OccupiedTile>>> tiles = boardSnapshot.getTiles();
+        Bitboard board = boardSnapshot.getBitboard();
         List<Move> result = new ArrayList<>();
 
-        for (int x = 0; x < 8; x++) {
-            for (int y = 0; y < 8; y++) {
-                Position position = new Position(x, y);
-                Optional<OccupiedTile> tile = tiles.get(y).get(x);
-                List<Move> moves = tile.map(r -> generateDummyMovesForPiece(r.getPiece(), position, player))
-                                        .orElse(new ArrayList<Move>());
-                result.addAll(moves);
-            }
+        for (long occupied = board.getOccupancy(); occupied != 0; occupied &= occupied - 1) {
+            int square = Long.numberOfTrailingZeros(occupied);
+            Position position = Position.of(Bitboard.getX(square), Bitboard.getY(square));
+            OccupiedTile tile = board.getTile(square).get();
+            result.addAll(generateDummyMovesForPiece(tile.getPiece(), position, player));
         }
 
         return result;
@@ -60,7 +57,7 @@ public class BasicMoveGenerator implements MoveGenerator {
                     int deltaX = srcX - x;
                     int deltaY = srcY - y;
                     if (deltaX * deltaX + deltaY * deltaY == 5 && x >= 0 && y >= 0) {
-                        result.add(new Move(position, new Position(x, y), piece, player, Optional.empty()));
+                        result.add(Move.of(position, Position.of(x, y), piece, player, Optional.empty()));
                     }
                 }
             }
@@ -71,40 +68,40 @@ public class BasicMoveGenerator implements MoveGenerator {
 
         // Horizontal moves
         for (int x = 0; x < 8; x++) {
-            result.add(new Move(position, new Position(x, srcY), piece, player, Optional.empty()));
+            result.add(Move.of(position, Position.of(x, srcY), piece, player, Optional.empty()));
         }
 
         // Vertical moves
         for (int y = 0; y < 8; y++) {
-            result.add(new Move(position, new Position(srcX, y), piece, player, Optional.empty()));
+            result.add(Move.of(position, Position.of(srcX, y), piece, player, Optional.empty()));
             if (piece == Piece.PAWN) {
-                result.add(new Move(position, new Position(srcX, y), piece, player, Optional.of(Piece.QUEEN)));
+                result.add(Move.of(position, Position.of(srcX, y), piece, player, Optional.of(Piece.QUEEN)));
             }
         }
 
         // Diagonal moves
         for (int x = srcX, y = srcY; x < 8 && y < 8; x++, y++) {
-            result.add(new Move(position, new Position(x, y), piece, player, Optional.empty()));
+            result.add(Move.of(position, Position.of(x, y), piece, player, Optional.empty()));
             if (piece == Piece.PAWN) {
-                result.add(new Move(position, new Position(x, y), piece, player, Optional.of(Piece.QUEEN)));
+                result.add(Move.of(position, Position.of(x, y), piece, player, Optional.of(Piece.QUEEN)));
             }
         }
         for (int x = srcX, y = srcY; x >= 0 && y < 8; x--, y++) {
-            result.add(new Move(position, new Position(x, y), piece, player, Optional.empty()));
+            result.add(Move.of(position, Position.of(x, y), piece, player, Optional.empty()));
             if (piece == Piece.PAWN) {
-                result.add(new Move(position, new Position(x, y), piece, player, Optional.of(Piece.QUEEN)));
+                result.add(Move.of(position, Position.of(x, y), piece, player, Optional.of(Piece.QUEEN)));
             }
         }
         for (int x = srcX, y = srcY; x < 8 && y >= 0; x++, y--) {
-            result.add(new Move(position, new Position(x, y), piece, player, Optional.empty()));
+            result.add(Move.of(position, Position.of(x, y), piece, player, Optional.empty()));
             if (piece == Piece.PAWN) {
-                result.add(new Move(position, new Position(x, y), piece, player, Optional.of(Piece.QUEEN)));
+                result.add(Move.of(position, Position.of(x, y), piece, player, Optional.of(Piece.QUEEN)));
             }
         }
         for (int x = srcX, y = srcY; x >= 0 && y >= 0; x--, y--) {
-            result.add(new Move(position, new Position(x, y), piece, player, Optional.empty()));
+            result.add(Move.of(position, Position.of(x, y), piece, player, Optional.empty()));
             if (piece == Piece.PAWN) {
-                result.add(new Move(position, new Position(x, y), piece, player, Optional.of(Piece.QUEEN)));
+                result.add(Move.of(position, Position.of(x, y), piece, player, Optional.of(Piece.QUEEN)));
             }
         }
 
@@ -32,8 +32,8 @@ public class BasicMoveSerializer implements MoveSerializer {
         Piece piece = stringToPiece(segments[5]);
         Optional<Piece> promotedTo = stringToPromoted(segments[6]);
 
-        return new Move(new Position(srcX, srcY),
-                        new Position(destX, destY),
+        return Move.of(Position.of(srcX, srcY),
+                        Position.of(destX, destY),
                         piece,
                         color,
                         promotedTo);
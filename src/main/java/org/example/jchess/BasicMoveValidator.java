@@ -1,18 +1,19 @@
 package org.example.jchess;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 public final class BasicMoveValidator implements MoveValidator, MoveApplier, CheckChecker {
 
+    private final AttackMapCheckChecker checkChecker = new AttackMapCheckChecker();
+
     @Override
     public boolean isValid(BoardSnapshot boardSnapshot, Move moveToBeMade) {
 
         return !hasSameSourceAndDestination(moveToBeMade) &&
                 isMoveInbounds(moveToBeMade) &&
-                !changesColor(boardSnapshot.getTiles(), moveToBeMade) &&
-                didWhiteStart(boardSnapshot, moveToBeMade) &&
+                movesPieceOnSource(boardSnapshot.getBitboard(), moveToBeMade) &&
+                !changesColor(boardSnapshot.getBitboard(), moveToBeMade) &&
                 !isPlayingTwice(boardSnapshot, moveToBeMade) &&
                 !capturesPieceWithSameColor(boardSnapshot, moveToBeMade) &&
                 movesLegally(boardSnapshot, moveToBeMade);
@@ -20,16 +21,27 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
 
     @Override
     public boolean isUnderCheck(List<List<Optional<OccupiedTile>>> board, Color defender) {
-        return isKingUnderAttack(board, defender);
+        return checkChecker.isUnderCheck(board, defender);
     }
 
     @Override
-    public BoardSnapshot applyMove(BoardSnapshot boardSnapshot, Move move) {
-        var tiles = boardSnapshot.getTiles();
-        var moveHistory = boardSnapshot.getMovesHistory();
+    public boolean isUnderCheck(Bitboard board, Color defender) {
+        return checkChecker.isUnderCheck(board, defender);
+    }
 
-        Optional<OccupiedTile> tile = tiles.get(move.getFrom().getY())
-                                           .get(move.getFrom().getX());
+    @Override
+    public BoardSnapshot applyMove(BoardSnapshot boardSnapshot, Move move) {
+        Bitboard board = boardSnapshot.getBitboard();
+        long[] pieces = board.toArray();
+        Color sideToMove = boardSnapshot.getSideToMove();
+        int castlingRights = boardSnapshot.getCastlingRights();
+        int enPassantSquare = boardSnapshot.getEnPassantSquare();
+        long key = boardSnapshot.getKey() ^
+                   Zobrist.sideToMove(sideToMove) ^
+                   Zobrist.castling(castlingRights) ^
+                   Zobrist.enPassant(board.getPieces(Piece.PAWN, sideToMove), sideToMove, enPassantSquare);
+
+        Optional<OccupiedTile> tile = board.getTile(move.getFrom());
 
         if (move.getPiece() == Piece.KING) {
             int deltaX = move.getTo().getX() - move.getFrom().getX();
@@ -38,37 +50,65 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
             if (Math.abs(deltaX) == 2) {
                 int rooksX = direction > 0 ? 7 : 0;
 
-                Optional<OccupiedTile> rooksTile = tiles.get(move.getFrom().getY())
-                                                        .get(rooksX);
-
-                tiles.get(move.getTo().getY())
-                     .set(rooksX, Optional.empty());
+                Optional<OccupiedTile> rooksTile = board.getTile(rooksX, move.getFrom().getY());
 
-                tiles.get(move.getFrom().getY())
-                     .set(move.getFrom().getX() + direction, rooksTile);
+                key ^= setTile(pieces, Bitboard.square(rooksX, move.getTo().getY()), Optional.empty());
+                key ^= setTile(pieces, Bitboard.square(move.getFrom().getX() + direction, move.getFrom().getY()), rooksTile);
             }
         }
 
         if (isValidEnPassant(boardSnapshot, move)) {
-            tiles.get(move.getFrom().getY())
-                 .set(move.getTo().getX(), Optional.empty());
+            key ^= setTile(pieces, Bitboard.square(move.getTo().getX(), move.getFrom().getY()), Optional.empty());
         }
 
-        tiles.get(move.getTo().getY())
-             .set(move.getTo().getX(), tile);
-
-        tiles.get(move.getFrom().getY())
-             .set(move.getFrom().getX(), Optional.empty());
+        key ^= setTile(pieces, Bitboard.square(move.getTo()), tile);
+        key ^= setTile(pieces, Bitboard.square(move.getFrom()), Optional.empty());
 
         if (isValidPawnPromotionData(move)) {
             OccupiedTile promotedTile = new OccupiedTile(move.getPromotedTo().get(), move.getColor());
-            tiles.get(move.getTo().getY())
-                 .set(move.getTo().getX(), Optional.of(promotedTile));
+            key ^= setTile(pieces, Bitboard.square(move.getTo()), Optional.of(promotedTile));
+        }
+
+        int from = Bitboard.square(move.getFrom());
+        int to = Bitboard.square(move.getTo());
+        boolean isCapture = board.isOccupied(to) || isValidEnPassant(boardSnapshot, move);
+        boolean isDoublePush = move.getPiece() == Piece.PAWN && Math.abs(to - from) == 2 * Bitboard.SIZE;
+
+        Color nextSideToMove = move.getColor() == Color.WHITE ? Color.BLACK : Color.WHITE;
+        int nextCastlingRights = CastlingRights.afterMove(castlingRights, from, to);
+        int nextEnPassantSquare = isDoublePush ? (from + to) / 2 : Bitboard.NO_SQUARE;
+        int nextHalfmoveClock = move.getPiece() == Piece.PAWN || isCapture ? 0 : boardSnapshot.getHalfmoveClock() + 1;
+        int nextFullmoveNumber = boardSnapshot.getFullmoveNumber() + (move.getColor() == Color.BLACK ? 1 : 0);
+        Bitboard nextBoard = new Bitboard(pieces);
+        int score = PieceSquareTables.update(boardSnapshot.getScore(), board, pieces);
+
+        key ^= Zobrist.sideToMove(nextSideToMove) ^
+               Zobrist.castling(nextCastlingRights) ^
+               Zobrist.enPassant(nextBoard.getPieces(Piece.PAWN, nextSideToMove), nextSideToMove, nextEnPassantSquare);
+
+        return new BoardSnapshot(nextBoard, boardSnapshot.getHistory().append(move), nextSideToMove, nextCastlingRights,
+                                 nextEnPassantSquare, nextHalfmoveClock, nextFullmoveNumber, key, score);
+    }
+
+    // Returns the change to the position key caused by replacing whatever stood on the square
+    private long setTile(long[] pieces, int square, Optional<OccupiedTile> tile) {
+        long mask = Bitboard.bit(square);
+        long keyDelta = 0;
+
+        for (int i = 0; i < pieces.length; i++) {
+            if ((pieces[i] & mask) != 0) {
+                pieces[i] &= ~mask;
+                keyDelta ^= Zobrist.piece(i, square);
+            }
         }
 
-        moveHistory.add(move);
+        if (tile.isPresent()) {
+            int index = Bitboard.index(tile.get().getPiece(), tile.get().getPlayerColor());
+            pieces[index] |= mask;
+            keyDelta ^= Zobrist.piece(index, square);
+        }
 
-        return new BoardSnapshot(tiles, moveHistory);
+        return keyDelta;
     }
 
     private boolean hasSameSourceAndDestination(Move move) {
@@ -88,9 +128,8 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
     private boolean capturesPieceWithSameColor(BoardSnapshot boardSnapshot, Move move) {
         int destX = move.getTo().getX();
         int destY = move.getTo().getY();
-        Optional<OccupiedTile> tile = boardSnapshot.getTiles()
-                                                   .get(destY)
-                                                   .get(destX);
+        Optional<OccupiedTile> tile = boardSnapshot.getBitboard()
+                                                   .getTile(destX, destY);
 
         boolean hasSameColor = tile.map((occupiedTile -> occupiedTile.getPlayerColor() == move.getColor()))
                                    .orElse(false);
@@ -98,32 +137,23 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
         return hasSameColor;
     }
 
-    private boolean changesColor(List<List<Optional<OccupiedTile>>> board, Move move) {
+    private boolean movesPieceOnSource(Bitboard board, Move move) {
+        return board.getTile(move.getFrom())
+                    .map(t -> t.getPiece() == move.getPiece())
+                    .orElse(false);
+    }
+
+    private boolean changesColor(Bitboard board, Move move) {
         int srcX = move.getFrom().getX();
         int srcY = move.getFrom().getY();
 
-        Optional<OccupiedTile> tile = board.get(srcY).get(srcX);
+        Optional<OccupiedTile> tile = board.getTile(srcX, srcY);
         return tile.map(t -> move.getColor() != t.getPlayerColor())
                 .orElse(false);
     }
 
-    private boolean didWhiteStart(BoardSnapshot boardSnapshot, Move move) {
-        int size = boardSnapshot.getMovesHistory().size();
-
-        if (size == 0) {
-            return true;
-        }
-
-        Color firstMoveColor = boardSnapshot.getMovesHistory().get(0).getColor();
-
-        return firstMoveColor == Color.WHITE;
-    }
-
     private boolean isPlayingTwice (BoardSnapshot boardSnapshot, Move move) {
-        var lastMove = boardSnapshot.getLastMove();
-
-        return lastMove.map(m -> m.getColor() == move.getColor())
-                        .orElse(false);
+        return boardSnapshot.getSideToMove() != move.getColor();
     }
 
     private boolean movesLegally(BoardSnapshot boardSnapshot, Move move) {
@@ -133,7 +163,7 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
         switch (move.getPiece()) {
             case BISHOP:
                 return movedDiagonally(src, dest) &&
-                        !boardHasPiecesBetween(boardSnapshot.getTiles(), src, dest) &&
+                        !boardHasPiecesBetween(boardSnapshot.getBitboard(), src, dest) &&
                         !isKingIsUnderAttackAfterMove(boardSnapshot, move);
 
             case KING:
@@ -154,12 +184,12 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
 
             case QUEEN:
                 return (movedDiagonally(src, dest) || movedVertically(src, dest) || movedHorizontally(src, dest)) &&
-                        !boardHasPiecesBetween(boardSnapshot.getTiles(), src, dest) &&
+                        !boardHasPiecesBetween(boardSnapshot.getBitboard(), src, dest) &&
                         !isKingIsUnderAttackAfterMove(boardSnapshot, move);
 
             case ROOK:
                 return (movedVertically(src, dest) || movedHorizontally(src, dest)) &&
-                        !boardHasPiecesBetween(boardSnapshot.getTiles(), src, dest) &&
+                        !boardHasPiecesBetween(boardSnapshot.getBitboard(), src, dest) &&
                         !isKingIsUnderAttackAfterMove(boardSnapshot, move);
 
             default:
@@ -177,36 +207,33 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
         int castlingY = move.getFrom().getY();
         int kingsStartingX = 4;
 
-        OccupiedTile kingsTile = new OccupiedTile(Piece.KING, move.getColor());
-        OccupiedTile rooksTile = new OccupiedTile(Piece.ROOK, move.getColor());
-
         int deltaX = move.getTo().getX() - move.getFrom().getX();
         int deltaY = move.getTo().getY() - move.getFrom().getY();
         int direction = getDirection(deltaX);
         int rooksExpectedX = direction > 0 ? rightRooksExpectedX: leftRooksExpectedX;
 
-        if (deltaY != 0) {
+        if (deltaY != 0 || Math.abs(deltaX) != 2 ||
+                move.getFrom().getX() != kingsStartingX || castlingY != getHomeRow(move.getColor())) {
             return false;
         }
 
-        var positionDestToCheckForPiecesInBetween = new Position(rooksExpectedX, castlingY);
-        if (boardHasPiecesBetween(boardSnapshot.getTiles(), move.getFrom(), positionDestToCheckForPiecesInBetween)) {
+        var positionDestToCheckForPiecesInBetween = Position.of(rooksExpectedX, castlingY);
+        if (boardHasPiecesBetween(boardSnapshot.getBitboard(), move.getFrom(), positionDestToCheckForPiecesInBetween)) {
             return false;
         }
 
-        if (wasPieceEverMovedOrCaptured(boardSnapshot, move.getFrom(), kingsTile) ||
-                wasPieceEverMovedOrCaptured(boardSnapshot, new Position(rooksExpectedX, castlingY), rooksTile)) {
+        int side = direction > 0 ? CastlingRights.kingside(move.getColor()) : CastlingRights.queenside(move.getColor());
+        long rook = Bitboard.bit(Bitboard.square(rooksExpectedX, castlingY));
+        if ((boardSnapshot.getCastlingRights() & side) == 0 ||
+                (boardSnapshot.getBitboard().getPieces(Piece.ROOK, move.getColor()) & rook) == 0) {
             return false;
         }
 
         // Same as 'for x in [kingsStartingX, rooksExpectedX)' when kingsStartingX < rooksExpectedX
         // Same as 'for x in [rooksExpectedX, kingsStartingX)' when rooksExpectedX < kingsStartingX
+        CheckInfo checkInfo = checkChecker.getCheckInfo(boardSnapshot.getBitboard(), move.getColor());
         for (int x = kingsStartingX; Math.abs(x - rooksExpectedX) != 1 ; x += direction) {
-            var tiles = boardSnapshot.getTiles();
-            var playerColor = move.getColor();
-            Position positionUnderCheck = new Position(x, castlingY);
-
-            if(isPositionUnderAttack(tiles, playerColor, positionUnderCheck)) {
+            if (checkInfo.isAttacked(Bitboard.square(x, castlingY))) {
                 return false;
             }
         }
@@ -220,7 +247,7 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
         }
 
         if (movedVertically(move.getFrom(), move.getTo())) {
-            if (isOccupied(boardSnapshot.getTiles(), move.getTo())) {
+            if (isOccupied(boardSnapshot.getBitboard(), move.getTo())) {
                 return false;
             }
 
@@ -234,11 +261,11 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
                 return !move.getPromotedTo().isPresent();
             }
 
-            return isCorrectPawnDoubleSquarePush(boardSnapshot.getTiles(), move);
+            return isCorrectPawnDoubleSquarePush(boardSnapshot.getBitboard(), move);
         }
 
         if (movedDiagonally(move.getFrom(), move.getTo())) {
-            if (!isOccupied(boardSnapshot.getTiles(), move.getTo())) {
+            if (!isOccupied(boardSnapshot.getBitboard(), move.getTo())) {
                 return isValidEnPassant(boardSnapshot, move);
             }
 
@@ -258,7 +285,7 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
         return false;
     }
 
-    private boolean isCorrectPawnDoubleSquarePush(List<List<Optional<OccupiedTile>>> board, Move move) {
+    private boolean isCorrectPawnDoubleSquarePush(Bitboard board, Move move) {
         if (move.getPiece() != Piece.PAWN || move.getPromotedTo().isPresent()) {
             return false;
         }
@@ -287,7 +314,7 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
             return false;
         }
 
-        boolean isThereABlockingPiece = obtainFirstOccupiedTilePositionIncludingDest(board, move.getFrom(), new Position(destX, destY)).isPresent();
+        boolean isThereABlockingPiece = obtainFirstOccupiedTilePositionIncludingDest(board, move.getFrom(), Position.of(destX, destY)).isPresent();
         return !isThereABlockingPiece;
     }
 
@@ -296,14 +323,6 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
             return false;
         }
 
-        if (!boardSnapshot.getLastMove().isPresent()) {
-            return false;
-        }
-
-        if (boardSnapshot.getLastMove().get().getPiece() != Piece.PAWN) {
-            return false;
-        }
-
         if (!movedDiagonally(move.getFrom(), move.getTo())) {
             return false;
         }
@@ -312,20 +331,7 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
             return false;
         }
 
-        Move lastMove = boardSnapshot.getLastMove().get();
-
-        int deltaYofLastMove = lastMove.getTo().getY() - lastMove.getFrom().getY();
-
-        if (Math.abs(deltaYofLastMove) != 2) {
-            return false;
-        }
-
-        if (!areNeighbouringPositions(lastMove.getTo(), move.getFrom()) ||
-            !movedHorizontally(lastMove.getTo(), move.getFrom())) {
-            return false;
-        }
-
-        return true;
+        return Bitboard.square(move.getTo()) == boardSnapshot.getEnPassantSquare();
     }
 
     private boolean isValidPawnPromotionData(Move move) {
@@ -347,20 +353,8 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
                 (destY == 7 && playerColor == Color.BLACK);
     }
 
-    private boolean wasPieceEverMovedOrCaptured(BoardSnapshot boardSnapshot, Position position, OccupiedTile tile) {
-        List<List<Optional<OccupiedTile>>> tiles = boardSnapshot.getTiles();
-        List<Move> moveHistory = boardSnapshot.getMovesHistory();
-        Optional<OccupiedTile> tileUnderCheck = tiles.get(position.getY())
-                                                     .get(position.getX());
-
-        // During castling, there will be no recorded move for the Rook as it is a Kings' move.
-        // In order to check for such move this is necessary
-        boolean isThePieceStillOnTheTile = tileUnderCheck.map(t -> t.getPiece() == tile.getPiece())
-                                                         .orElse(false);
-
-        boolean wasThePieceMovedOrCaptured = moveHistory.stream().anyMatch(move -> move.getTo().equals(position));
-
-        return wasThePieceMovedOrCaptured || !isThePieceStillOnTheTile;
+    private int getHomeRow(Color player) {
+        return player == Color.WHITE ? 7 : 0;
     }
 
     private boolean movedHorizontally(Position src, Position dest) {
@@ -390,11 +384,11 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
         return deltaX * deltaX + deltaY * deltaY <= 2;
     }
 
-    private boolean boardHasPiecesBetween(List<List<Optional<OccupiedTile>>> board, Position src, Position dest) {
+    private boolean boardHasPiecesBetween(Bitboard board, Position src, Position dest) {
         return obtainFirstOccupiedTilePositionBetween(board, src, dest).isPresent();
     }
 
-    private Optional<Position> obtainFirstOccupiedTilePositionBetween(List<List<Optional<OccupiedTile>>> board, Position src, Position dest) {
+    private Optional<Position> obtainFirstOccupiedTilePositionBetween(Bitboard board, Position src, Position dest) {
         var tilePosition = obtainFirstOccupiedTilePositionIncludingDest(board, src, dest);
         boolean isDestinationTileFound = tilePosition.map(t -> t.equals(dest))
                                                      .orElse(false);
@@ -402,7 +396,7 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
         return isDestinationTileFound ? Optional.empty() : tilePosition;
     }
 
-    private Optional<Position> obtainFirstOccupiedTilePositionIncludingDest(List<List<Optional<OccupiedTile>>> board, Position src, Position dest) {
+    private Optional<Position> obtainFirstOccupiedTilePositionIncludingDest(Bitboard board, Position src, Position dest) {
         int deltaX = dest.getX() - src.getX();
         int deltaY = dest.getY() - src.getY();
         int directionOfX = getDirection(deltaX);
@@ -415,18 +409,16 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
             x += directionOfX;
             y += directionOfY;
 
-            if (board.get(y).get(x).isPresent()) {
-                return Optional.of(new Position(x, y));
+            if (board.isOccupied(Bitboard.square(x, y))) {
+                return Optional.of(Position.of(x, y));
             }
         }
 
         return Optional.empty();
     }
 
-    private boolean isOccupied (List<List<Optional<OccupiedTile>>> board, Position position) {
-        return board.get(position.getY())
-                    .get(position.getX())
-                    .isPresent();
+    private boolean isOccupied (Bitboard board, Position position) {
+        return board.isOccupied(Bitboard.square(position));
     }
 
     private int getDirection(int delta) {
@@ -436,111 +428,15 @@ public final class BasicMoveValidator implements MoveValidator, MoveApplier, Che
     }
 
     private boolean isKingIsUnderAttackAfterMove(BoardSnapshot boardSnapshot, Move move) {
-        BoardSnapshot b = applyMove(boardSnapshot, move);
-        return isKingUnderAttack(b.getTiles(), move.getColor());
-    }
-
-    private boolean isKingUnderAttack(List<List<Optional<OccupiedTile>>> board, Color defender) {
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                boolean foundDefendersKing = board.get(row).get(col)
-                     .map(tile -> tile.getPiece() == Piece.KING && tile.getPlayerColor() == defender)
-                     .orElse(false);
-
-                if (foundDefendersKing) {
-                    return isPositionUnderAttack(board, defender, new Position(col, row));
-                }
-            }
-        }
-
-        throw new RuntimeException("This code should not be reachable!");
-    }
+        CheckInfo checkInfo = checkChecker.getCheckInfo(boardSnapshot.getBitboard(), move.getColor());
+        int from = Bitboard.square(move.getFrom());
+        int to = Bitboard.square(move.getTo());
 
-    private boolean isPositionUnderAttack(List<List<Optional<OccupiedTile>>> board, Color defender, Position position) {
-        int x = position.getX();
-        int y = position.getY();
-        Color attacker = (defender == Color.WHITE) ? Color.BLACK : Color.WHITE;
-
-        List<Position> edges = Arrays.asList(
-                new Position(x, 0),
-                new Position(x, 7),
-                new Position(0, y),
-                new Position(7, y),
-                new Position(Math.max(x - y, 0), Math.max(y - x, 0)),
-                new Position(Math.min(x - y + 7, 7), Math.min(y - x + 7, 7)),
-                new Position(Math.min(x + y, 7), Math.max(x + y - 7, 0)),
-                new Position(Math.max(x + y - 7, 0),Math.min(x + y, 7))
-        );
-
-        for(Position edge : edges) {
-            Optional<Position> pos = obtainFirstOccupiedTilePositionIncludingDest(board, position, edge);
-            Optional<OccupiedTile> optionalTile = pos.map(p -> board.get(p.getY()).get(p.getX()))
-                                             .orElse(Optional.empty());
-
-            if (optionalTile.isPresent()) {
-                OccupiedTile tile = optionalTile.get();
-                Position positionOfFoundTile = pos.get();
-
-                if (tile.getPlayerColor() == attacker) {
-                    switch (tile.getPiece()) {
-                        case BISHOP:
-                            if(movedDiagonally(positionOfFoundTile, position)) {
-                                return true;
-                            }
-                            break;
-                        case KING:
-                            if (areNeighbouringPositions(positionOfFoundTile, position)) {
-                                return true;
-                            }
-                            break;
-                        case KNIGHT:
-                                continue;
-                        case PAWN:
-                            if (movedDiagonally(positionOfFoundTile, position) &&
-                                areNeighbouringPositions(positionOfFoundTile, position) &&
-                                movedForward(positionOfFoundTile, position, attacker)) {
-                                return true;
-                            }
-                            break;
-
-                        case QUEEN:
-                            return true;
-                        case ROOK:
-                            if (movedHorizontally(positionOfFoundTile, position) ||
-                                movedVertically(positionOfFoundTile, position)) {
-                                return true;
-                            }
-                            break;
-                        default:
-                            throw new IllegalStateException("Unexpected value: " + tile.getPiece());
-                    }
-                }
-            }
-        }
-
-        return isAttackedFromAKnight(board, defender, position);
-    }
-
-    private boolean isAttackedFromAKnight(List<List<Optional<OccupiedTile>>> board, Color defender, Position position) {
-        int x = position.getX();
-        int y = position.getY();
-
-        for (int i = x - 2; i <= x + 2; i++) {
-            for (int j = y - 2; j <= y + 2; j++) {
-                int deltaX = i - x;
-                int deltaY = j - y;
-                if (deltaX * deltaX + deltaY * deltaY == 5 && i >= 0 && j >= 0 && i < 8 && j < 8) {
-                    Optional<OccupiedTile> tile = board.get(j).get(i);
-                    boolean isThereAnEnemyKnight =tile.map(t -> t.getPiece() == Piece.KNIGHT && t.getPlayerColor() != defender)
-                                                      .orElse(false);
-                    if (isThereAnEnemyKnight) {
-                        return true;
-                    }
-                }
-            }
+        if (isValidEnPassant(boardSnapshot, move)) {
+            return !checkInfo.isLegalEnPassant(from, to);
         }
 
-        return false;
+        return !checkInfo.isLegal(from, to);
     }
 
     private boolean movedForward(Position src, Position dest, Color player) {
@@ -0,0 +1,143 @@
+package org.example.jchess;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class BinaryMoveSerializer implements MoveSerializer {
+
+    public static final int MOVE_BYTES = 2;
+    public static final int PROMOTION_BYTES = 3;
+
+    // Layout of the leading 16 bits: from square 6 bits, to square 6 bits, piece 3 bits and color 1 bit.
+    // Pieces only need 0 to 5, so the spare code marks a promoting pawn whose new piece follows in a third byte
+    private static final int TO_SHIFT = 6;
+    private static final int PIECE_SHIFT = 12;
+    private static final int COLOR_SHIFT = 15;
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int PIECE_MASK = 0x7;
+    private static final int PROMOTING_PAWN = 6;
+
+    private static final Piece[] PIECES = Piece.values();
+    private static final Color[] COLORS = Color.values();
+
+    @Override
+    public byte[] serialize(Move move) {
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(move));
+        write(move, buffer);
+        return buffer.array();
+    }
+
+    @Override
+    public Move deserialize(byte[] bytes) {
+        Objects.requireNonNull(bytes);
+
+        if (bytes.length != MOVE_BYTES && bytes.length != PROMOTION_BYTES) {
+            throw new IllegalArgumentException("Expected " + MOVE_BYTES + " or " + PROMOTION_BYTES + " bytes, got " + bytes.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        Move move = read(buffer);
+
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Trailing bytes after move");
+        }
+
+        return move;
+    }
+
+    // Writes the moves back to back from the buffer's position; a move never gets written only in part
+    public void serialize(Move[] moves, int offset, int length, ByteBuffer buffer) {
+        Objects.checkFromIndexSize(offset, length, moves.length);
+
+        for (int i = offset; i < offset + length; i++) {
+            write(moves[i], buffer);
+        }
+    }
+
+    // Reads moves until the buffer or the array runs out and returns how many were read.
+    // An incomplete trailing move is left in the buffer so that it can be completed by the next read
+    public int deserialize(ByteBuffer buffer, Move[] moves, int offset) {
+        Objects.checkFromIndexSize(offset, 0, moves.length);
+
+        int count = 0;
+
+        while (offset + count < moves.length && isComplete(buffer)) {
+            moves[offset + count] = read(buffer);
+            count++;
+        }
+
+        return count;
+    }
+
+    public static int sizeOf(Move move) {
+        return move.getPromotedTo().isPresent() ? PROMOTION_BYTES : MOVE_BYTES;
+    }
+
+    private void write(Move move, ByteBuffer buffer) {
+        Optional<Piece> promotedTo = move.getPromotedTo();
+        int pieceCode = promotedTo.isPresent() ? PROMOTING_PAWN : move.getPiece().ordinal();
+
+        if (promotedTo.isPresent() && move.getPiece() != Piece.PAWN) {
+            throw new IllegalArgumentException("Only pawns can promote: " + move);
+        }
+
+        if (buffer.remaining() < sizeOf(move)) {
+            throw new BufferOverflowException();
+        }
+
+        int header = Bitboard.square(move.getFrom()) |
+                Bitboard.square(move.getTo()) << TO_SHIFT |
+                pieceCode << PIECE_SHIFT |
+                move.getColor().ordinal() << COLOR_SHIFT;
+
+        buffer.putShort((short) header);
+
+        if (promotedTo.isPresent()) {
+            buffer.put((byte) promotedTo.get().ordinal());
+        }
+    }
+
+    private Move read(ByteBuffer buffer) {
+        if (!isComplete(buffer)) {
+            throw new BufferUnderflowException();
+        }
+
+        int header = buffer.getShort() & 0xFFFF;
+        int pieceCode = header >>> PIECE_SHIFT & PIECE_MASK;
+
+        int from = header & SQUARE_MASK;
+        int to = header >>> TO_SHIFT & SQUARE_MASK;
+        Color color = COLORS[header >>> COLOR_SHIFT];
+
+        // Interned moves make decoding allocation free
+        if (pieceCode == PROMOTING_PAWN) {
+            return Move.of(from, to, color, toPiece(buffer.get()));
+        }
+
+        return Move.of(from, to, toPiece(pieceCode), color);
+    }
+
+    private boolean isComplete(ByteBuffer buffer) {
+        int remaining = buffer.remaining();
+
+        if (remaining < MOVE_BYTES) {
+            return false;
+        }
+
+        // Peek at the header without moving the position, in the buffer's byte order just like read
+        int header = buffer.getShort(buffer.position()) & 0xFFFF;
+        int pieceCode = header >>> PIECE_SHIFT & PIECE_MASK;
+        return pieceCode != PROMOTING_PAWN || remaining >= PROMOTION_BYTES;
+    }
+
+    private Piece toPiece(int code) {
+        if (code < 0 || code >= PIECES.length) {
+            throw new IllegalArgumentException("Unexpected value: " + code);
+        }
+
+        return PIECES[code];
+    }
+}
@@ -0,0 +1,182 @@
+package org.example.jchess;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class Bitboard {
+
+    public static final int SIZE = 8;
+    public static final int SQUARES = SIZE * SIZE;
+    public static final int NO_SQUARE = -1;
+
+    private static final Piece[] PIECES = Piece.values();
+    private static final Color[] COLORS = Color.values();
+    private static final int BOARDS = PIECES.length * COLORS.length;
+
+    // Tiles are immutable, so a single Optional per piece/color pair can be shared by every lookup
+    private static final List<Optional<OccupiedTile>> TILES = createTiles();
+
+    private final long[] pieces;
+    private final long[] occupancy;
+    private final long occupied;
+
+    public Bitboard(long[] pieces) {
+        Objects.requireNonNull(pieces);
+
+        if (pieces.length != BOARDS) {
+            throw new IllegalArgumentException("Expected " + BOARDS + " bitboards, got " + pieces.length);
+        }
+
+        this.pieces = pieces.clone();
+        this.occupancy = new long[COLORS.length];
+
+        for (Color color : COLORS) {
+            for (Piece piece : PIECES) {
+                occupancy[color.ordinal()] |= this.pieces[index(piece, color)];
+            }
+        }
+
+        this.occupied = occupancy[Color.WHITE.ordinal()] | occupancy[Color.BLACK.ordinal()];
+    }
+
+    public static Bitboard fromTiles(List<List<Optional<OccupiedTile>>> tiles) {
+        Objects.requireNonNull(tiles);
+        long[] pieces = new long[BOARDS];
+
+        for (int y = 0; y < tiles.size(); y++) {
+            List<Optional<OccupiedTile>> row = Objects.requireNonNull(tiles.get(y));
+
+            for (int x = 0; x < row.size(); x++) {
+                Optional<OccupiedTile> tile = row.get(x);
+
+                if (tile.isPresent()) {
+                    OccupiedTile t = tile.get();
+                    pieces[index(t.getPiece(), t.getPlayerColor())] |= bit(square(x, y));
+                }
+            }
+        }
+
+        return new Bitboard(pieces);
+    }
+
+    public List<List<Optional<OccupiedTile>>> toTiles() {
+        List<List<Optional<OccupiedTile>>> tiles = new ArrayList<>(SIZE);
+
+        for (int y = 0; y < SIZE; y++) {
+            List<Optional<OccupiedTile>> row = new ArrayList<>(SIZE);
+
+            for (int x = 0; x < SIZE; x++) {
+                row.add(getTile(x, y));
+            }
+
+            tiles.add(row);
+        }
+
+        return tiles;
+    }
+
+    public static int index(Piece piece, Color color) {
+        return color.ordinal() * PIECES.length + piece.ordinal();
+    }
+
+    public static int square(int x, int y) {
+        return y * SIZE + x;
+    }
+
+    public static int square(Position position) {
+        return square(position.getX(), position.getY());
+    }
+
+    public static int getX(int square) {
+        return square & (SIZE - 1);
+    }
+
+    public static int getY(int square) {
+        return square >>> 3;
+    }
+
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    public long getPieces(Piece piece, Color color) {
+        return pieces[index(piece, color)];
+    }
+
+    public long getOccupancy(Color color) {
+        return occupancy[color.ordinal()];
+    }
+
+    public long getOccupancy() {
+        return occupied;
+    }
+
+    public boolean isOccupied(int square) {
+        return (occupied & bit(square)) != 0;
+    }
+
+    public Optional<OccupiedTile> getTile(int x, int y) {
+        return getTile(square(x, y));
+    }
+
+    public Optional<OccupiedTile> getTile(int square) {
+        long mask = bit(square);
+
+        if ((occupied & mask) == 0) {
+            return Optional.empty();
+        }
+
+        for (int i = 0; i < BOARDS; i++) {
+            if ((pieces[i] & mask) != 0) {
+                return TILES.get(i);
+            }
+        }
+
+        throw new RuntimeException("This code should not be reachable!");
+    }
+
+    public Optional<OccupiedTile> getTile(Position position) {
+        return getTile(position.getX(), position.getY());
+    }
+
+    long[] toArray() {
+        return pieces.clone();
+    }
+
+    private static List<Optional<OccupiedTile>> createTiles() {
+        List<Optional<OccupiedTile>> tiles = new ArrayList<>(BOARDS);
+
+        for (int i = 0; i < BOARDS; i++) {
+            Color color = COLORS[i / PIECES.length];
+            Piece piece = PIECES[i % PIECES.length];
+            tiles.add(Optional.of(new OccupiedTile(piece, color)));
+        }
+
+        return tiles;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Bitboard bitboard = (Bitboard) o;
+
+        return Arrays.equals(pieces, bitboard.pieces);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(pieces);
+    }
+
+    @Override
+    public String toString() {
+        return "Bitboard{" +
+                "pieces=" + Arrays.toString(pieces) +
+                '}';
+    }
+}
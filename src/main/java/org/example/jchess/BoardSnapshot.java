@@ -1,44 +1,152 @@
 package org.example.jchess;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 public final class BoardSnapshot {
 
-    private final List<List<Optional<OccupiedTile>>> tiles;
-    private final List<Move> movesHistory;
+    private final Bitboard bitboard;
+    private final MoveHistory history;
+    private final Color sideToMove;
+    private final int castlingRights;
+    private final int enPassantSquare;
+    private final int halfmoveClock;
+    private final int fullmoveNumber;
+    private final long key;
+    private final int score;
 
     public BoardSnapshot(List<List<Optional<OccupiedTile>>> tiles, List<Move> movesHistory) {
-        Objects.requireNonNull(tiles);
-        Objects.requireNonNull(movesHistory);
-        tiles.stream().forEach(Objects::requireNonNull);
+        this(Bitboard.fromTiles(tiles), movesHistory);
+    }
 
-        this.tiles = copy(tiles);
-        this.movesHistory = new ArrayList<>(movesHistory);
+    public BoardSnapshot(Bitboard bitboard, List<Move> movesHistory) {
+        this(bitboard, MoveHistory.of(movesHistory));
     }
 
-    private List<List<Optional<OccupiedTile>>> copy(List<List<Optional<OccupiedTile>>> src) {
-        List<List<Optional<OccupiedTile>>> dest = new ArrayList<>();
+    public BoardSnapshot(Bitboard bitboard, MoveHistory history) {
+        Objects.requireNonNull(bitboard);
+        Objects.requireNonNull(history);
+
+        this.bitboard = bitboard;
+        this.history = history;
+
+        Optional<Move> lastMove = getLastMove();
+
+        this.sideToMove = lastMove.map(m -> m.getColor() == Color.WHITE ? Color.BLACK : Color.WHITE)
+                                  .orElse(Color.WHITE);
+        this.castlingRights = CastlingRights.fromHistory(bitboard, history);
+        this.enPassantSquare = lastMove.filter(m -> m.getPiece() == Piece.PAWN)
+                                       .filter(m -> Math.abs(m.getTo().getY() - m.getFrom().getY()) == 2)
+                                       .map(m -> Bitboard.square(m.getTo().getX(), (m.getFrom().getY() + m.getTo().getY()) / 2))
+                                       .orElse(Bitboard.NO_SQUARE);
+        // Captures cannot be told apart from the history alone, so the clock starts from zero
+        this.halfmoveClock = 0;
+        this.fullmoveNumber = 1 + history.size() / 2;
+        this.key = Zobrist.compute(bitboard, sideToMove, castlingRights, enPassantSquare);
+        this.score = PieceSquareTables.compute(bitboard);
+    }
+
+    public BoardSnapshot(Bitboard bitboard, MoveHistory history, Color sideToMove, int castlingRights,
+                         int enPassantSquare, int halfmoveClock, int fullmoveNumber) {
+        this(bitboard, history, sideToMove, castlingRights & CastlingRights.ALL, enPassantSquare, halfmoveClock, fullmoveNumber,
+             Zobrist.compute(bitboard, sideToMove, castlingRights & CastlingRights.ALL, enPassantSquare),
+             PieceSquareTables.compute(bitboard));
+    }
+
+    // Used by move appliers which carry the position state, key and score forward incrementally
+    BoardSnapshot(Bitboard bitboard, MoveHistory history, Color sideToMove, int castlingRights,
+                  int enPassantSquare, int halfmoveClock, int fullmoveNumber, long key, int score) {
+        if (enPassantSquare < Bitboard.NO_SQUARE || enPassantSquare >= Bitboard.SQUARES) {
+            throw new IllegalArgumentException("Invalid en-passant square: " + enPassantSquare);
+        }
 
-        for (var list : src) {
-            dest.add(new ArrayList<>(list));
+        if (halfmoveClock < 0 || fullmoveNumber < 1) {
+            throw new IllegalArgumentException("Invalid move counters: " + halfmoveClock + ", " + fullmoveNumber);
         }
 
-        return dest;
+        this.bitboard = Objects.requireNonNull(bitboard);
+        this.history = Objects.requireNonNull(history);
+        this.sideToMove = Objects.requireNonNull(sideToMove);
+        this.castlingRights = castlingRights;
+        this.enPassantSquare = enPassantSquare;
+        this.halfmoveClock = halfmoveClock;
+        this.fullmoveNumber = fullmoveNumber;
+        this.key = key;
+        this.score = score;
+    }
+
+    public Bitboard getBitboard() {
+        return bitboard;
     }
 
     public List<List<Optional<OccupiedTile>>> getTiles() {
-        return copy(tiles);
+        return bitboard.toTiles();
     }
 
     public List<Move> getMovesHistory() {
-        return new ArrayList<>(movesHistory);
+        return history.toList();
+    }
+
+    public MoveHistory getHistory() {
+        return history;
     }
 
     public Optional<Move> getLastMove() {
-        int size = movesHistory.size();
-        return size > 0 ? Optional.of(movesHistory.get(size - 1)) : Optional.empty();
+        return history.getLast();
+    }
+
+    public Color getSideToMove() {
+        return sideToMove;
+    }
+
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    public int getHalfmoveClock() {
+        return halfmoveClock;
+    }
+
+    public int getFullmoveNumber() {
+        return fullmoveNumber;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    // Packed middlegame and endgame score from white's point of view, see PieceSquareTables
+    public int getScore() {
+        return score;
+    }
+
+    // Tapered centipawns from white's point of view
+    public int getEvaluation() {
+        return PieceSquareTables.taper(score, PieceSquareTables.phase(bitboard));
+    }
+
+    // Two snapshots are equal when they describe the same position, regardless of how it was reached
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        BoardSnapshot that = (BoardSnapshot) o;
+
+        if (key != that.key) return false;
+        if (sideToMove != that.sideToMove) return false;
+        if (castlingRights != that.castlingRights) return false;
+        if (enPassantSquare != that.enPassantSquare) return false;
+        return bitboard.equals(that.bitboard);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(key);
     }
 }
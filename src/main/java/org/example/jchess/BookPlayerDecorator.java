@@ -0,0 +1,55 @@
+package org.example.jchess;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+// Plays from the opening book while the position is in it. The wrapped player is told about book moves
+// through registerMove, which for players keeping their own board just applies the move.
+public class BookPlayerDecorator implements Player {
+
+    private final Player player;
+    private final OpeningBook book;
+    private final Board board;
+    private final SplittableRandom random;
+
+    private boolean inBook = true;
+
+    public BookPlayerDecorator(Player player, OpeningBook book, Board board, long seed) {
+        this.player = Objects.requireNonNull(player);
+        this.book = Objects.requireNonNull(book);
+        this.board = Objects.requireNonNull(board);
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public Move obtainNextMove() {
+        if (inBook) {
+            Optional<Move> bookMove = book.pick(board.getSnapshot(), random);
+
+            if (bookMove.isPresent()) {
+                Move move = bookMove.get();
+                board.applyMove(move);
+                player.registerMove(move);
+                return move;
+            }
+
+            // Positions rarely return to the book once it has been left
+            inBook = false;
+        }
+
+        Move move = player.obtainNextMove();
+        board.applyMove(move);
+        return move;
+    }
+
+    @Override
+    public void registerMove(Move move) {
+        board.applyMove(move);
+        player.registerMove(move);
+    }
+
+    public boolean isInBook() {
+        return inBook;
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.jchess;
+
+import java.util.Arrays;
+
+public final class CastlingRights {
+
+    public static final int NONE = 0;
+    public static final int WHITE_KINGSIDE = 1;
+    public static final int WHITE_QUEENSIDE = 2;
+    public static final int BLACK_KINGSIDE = 4;
+    public static final int BLACK_QUEENSIDE = 8;
+    public static final int ALL = WHITE_KINGSIDE | WHITE_QUEENSIDE | BLACK_KINGSIDE | BLACK_QUEENSIDE;
+
+    // Rights that survive a move touching the square, either by moving from it or capturing on it
+    private static final int[] MASKS = createMasks();
+
+    private CastlingRights() {
+    }
+
+    public static int afterMove(int castlingRights, int from, int to) {
+        return castlingRights & MASKS[from] & MASKS[to];
+    }
+
+    public static int kingside(Color color) {
+        return color == Color.WHITE ? WHITE_KINGSIDE : BLACK_KINGSIDE;
+    }
+
+    public static int queenside(Color color) {
+        return color == Color.WHITE ? WHITE_QUEENSIDE : BLACK_QUEENSIDE;
+    }
+
+    public static int fromHistory(Bitboard board, Iterable<Move> movesHistory) {
+        long touched = 0;
+        for (Move move : movesHistory) {
+            touched |= Bitboard.bit(Bitboard.square(move.getFrom())) | Bitboard.bit(Bitboard.square(move.getTo()));
+        }
+
+        int castlingRights = NONE;
+        for (Color color : Color.values()) {
+            int y = color == Color.WHITE ? 7 : 0;
+
+            if ((board.getPieces(Piece.KING, color) & ~touched & Bitboard.bit(Bitboard.square(4, y))) == 0) {
+                continue;
+            }
+
+            long rooks = board.getPieces(Piece.ROOK, color) & ~touched;
+
+            if ((rooks & Bitboard.bit(Bitboard.square(7, y))) != 0) {
+                castlingRights |= kingside(color);
+            }
+
+            if ((rooks & Bitboard.bit(Bitboard.square(0, y))) != 0) {
+                castlingRights |= queenside(color);
+            }
+        }
+
+        return castlingRights;
+    }
+
+    private static int[] createMasks() {
+        int[] masks = new int[Bitboard.SQUARES];
+        Arrays.fill(masks, ALL);
+
+        masks[Bitboard.square(4, 7)] &= ~(WHITE_KINGSIDE | WHITE_QUEENSIDE);
+        masks[Bitboard.square(7, 7)] &= ~WHITE_KINGSIDE;
+        masks[Bitboard.square(0, 7)] &= ~WHITE_QUEENSIDE;
+        masks[Bitboard.square(4, 0)] &= ~(BLACK_KINGSIDE | BLACK_QUEENSIDE);
+        masks[Bitboard.square(7, 0)] &= ~BLACK_KINGSIDE;
+        masks[Bitboard.square(0, 0)] &= ~BLACK_QUEENSIDE;
+
+        return masks;
+    }
+}
@@ -1,22 +1,29 @@
 package org.example.jchess;
 
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class ChaoticPlayer implements Player {
 
     private final Board board;
     private final MoveGenerator generator;
+    private final SplittableRandom random;
 
     public ChaoticPlayer(Board board, MoveGenerator generator) {
+        this(board, generator, ThreadLocalRandom.current().nextLong());
+    }
+
+    public ChaoticPlayer(Board board, MoveGenerator generator, long seed) {
         this.board = Objects.requireNonNull(board);
         this.generator = Objects.requireNonNull(generator);
+        this.random = new SplittableRandom(seed);
     }
 
     @Override
     public Move obtainNextMove() {
         var moves = generator.generateValidMoves(board.getSnapshot());
-        int size = moves.size();
-        int idx = (int) Math.floor(size * Math.random());
+        int idx = random.nextInt(moves.size());
 
         Move move = moves.get(idx);
         board.applyMove(move);
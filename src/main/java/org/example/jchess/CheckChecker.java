@@ -6,4 +6,5 @@ import java.util.Optional;
 public interface CheckChecker {
 
     boolean isUnderCheck(List<List<Optional<OccupiedTile>>> board, Color defender);
+    boolean isUnderCheck(Bitboard board, Color defender);
 }
@@ -0,0 +1,149 @@
+package org.example.jchess;
+
+import java.util.Objects;
+
+public final class CheckInfo {
+
+    private final Bitboard board;
+    private final Color defender;
+    private final int kingSquare;
+    private final long checkers;
+    private final long pinned;
+
+    private CheckInfo(Bitboard board, Color defender, int kingSquare, long checkers, long pinned) {
+        this.board = board;
+        this.defender = defender;
+        this.kingSquare = kingSquare;
+        this.checkers = checkers;
+        this.pinned = pinned;
+    }
+
+    public static CheckInfo of(Bitboard board, Color defender) {
+        Objects.requireNonNull(board);
+        Objects.requireNonNull(defender);
+
+        long king = board.getPieces(Piece.KING, defender);
+
+        if (king == 0) {
+            throw new RuntimeException("This code should not be reachable!");
+        }
+
+        int kingSquare = Long.numberOfTrailingZeros(king);
+        Color attacker = opponent(defender);
+        long occupied = board.getOccupancy();
+        long queens = board.getPieces(Piece.QUEEN, attacker);
+        long diagonalSliders = board.getPieces(Piece.BISHOP, attacker) | queens;
+        long straightSliders = board.getPieces(Piece.ROOK, attacker) | queens;
+
+        long checkers = (Attacks.pawn(defender, kingSquare) & board.getPieces(Piece.PAWN, attacker)) |
+                (Attacks.knight(kingSquare) & board.getPieces(Piece.KNIGHT, attacker)) |
+                (Attacks.bishop(kingSquare, occupied) & diagonalSliders) |
+                (Attacks.rook(kingSquare, occupied) & straightSliders);
+
+        // A slider looking at the king through exactly one of our pieces pins that piece
+        long pinned = 0;
+        long snipers = (Attacks.bishop(kingSquare, 0) & diagonalSliders) | (Attacks.rook(kingSquare, 0) & straightSliders);
+
+        for (; snipers != 0; snipers &= snipers - 1) {
+            long blockers = Attacks.between(kingSquare, Long.numberOfTrailingZeros(snipers)) & occupied;
+
+            if (Long.bitCount(blockers) == 1) {
+                pinned |= blockers & board.getOccupancy(defender);
+            }
+        }
+
+        return new CheckInfo(board, defender, kingSquare, checkers, pinned);
+    }
+
+    public Bitboard getBoard() {
+        return board;
+    }
+
+    public Color getDefender() {
+        return defender;
+    }
+
+    public int getKingSquare() {
+        return kingSquare;
+    }
+
+    public long getCheckers() {
+        return checkers;
+    }
+
+    public long getPinned() {
+        return pinned;
+    }
+
+    public boolean isInCheck() {
+        return checkers != 0;
+    }
+
+    public boolean isDoubleCheck() {
+        return Long.bitCount(checkers) > 1;
+    }
+
+    // Squares a piece other than the king may move to: anywhere, a block or capture of the single checker, or nowhere
+    public long getEvasionMask() {
+        if (checkers == 0) {
+            return -1L;
+        }
+
+        if (isDoubleCheck()) {
+            return 0;
+        }
+
+        return checkers | Attacks.between(kingSquare, Long.numberOfTrailingZeros(checkers));
+    }
+
+    public long getPinRay(int square) {
+        return (pinned & Bitboard.bit(square)) != 0 ? Attacks.line(kingSquare, square) : -1L;
+    }
+
+    public boolean isAttacked(int square) {
+        return isAttacked(square, board.getOccupancy());
+    }
+
+    public boolean isAttacked(int square, long occupied) {
+        Color attacker = opponent(defender);
+        long queens = board.getPieces(Piece.QUEEN, attacker);
+
+        return (Attacks.pawn(defender, square) & board.getPieces(Piece.PAWN, attacker)) != 0 ||
+                (Attacks.knight(square) & board.getPieces(Piece.KNIGHT, attacker)) != 0 ||
+                (Attacks.king(square) & board.getPieces(Piece.KING, attacker)) != 0 ||
+                (Attacks.bishop(square, occupied) & (board.getPieces(Piece.BISHOP, attacker) | queens)) != 0 ||
+                (Attacks.rook(square, occupied) & (board.getPieces(Piece.ROOK, attacker) | queens)) != 0;
+    }
+
+    // The king is lifted off the board so that it cannot hide behind itself along a slider's ray
+    public boolean isSafeForKing(int square) {
+        return !isAttacked(square, board.getOccupancy() & ~Bitboard.bit(kingSquare));
+    }
+
+    // Castling and en passant have to be judged separately, everything else only needs the pin and evasion masks
+    public boolean isLegal(int from, int to) {
+        if (from == kingSquare) {
+            return isSafeForKing(to);
+        }
+
+        long target = Bitboard.bit(to);
+        return (getEvasionMask() & target) != 0 && (getPinRay(from) & target) != 0;
+    }
+
+    // Both pawns leave the rank at once, which can expose the king along it; a leaper giving check must be the captured pawn
+    public boolean isLegalEnPassant(int from, int to) {
+        Color attacker = opponent(defender);
+        long captured = Bitboard.bit(Bitboard.square(Bitboard.getX(to), Bitboard.getY(from)));
+        long occupied = (board.getOccupancy() & ~Bitboard.bit(from) & ~captured) | Bitboard.bit(to);
+        long queens = board.getPieces(Piece.QUEEN, attacker);
+        long leapers = board.getPieces(Piece.KNIGHT, attacker) | board.getPieces(Piece.PAWN, attacker);
+
+        return (checkers & leapers & ~captured) == 0 &&
+                (Attacks.bishop(kingSquare, occupied) & (board.getPieces(Piece.BISHOP, attacker) | queens)) == 0 &&
+                (Attacks.rook(kingSquare, occupied) & (board.getPieces(Piece.ROOK, attacker) | queens)) == 0;
+    }
+
+    private static Color opponent(Color player) {
+        return player == Color.BLACK ? Color.WHITE : Color.BLACK;
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.jchess;
 
+import java.io.Flushable;
+import java.io.IOException;
 import java.util.*;
 
 public final class ChessGame implements Game {
@@ -9,13 +11,27 @@ public final class ChessGame implements Game {
     private final Engine engine;
     private final Board board;
     private final Renderer renderer;
+    private final int maxPlies;
+
+    private Report report;
+    private int plies;
 
     public ChessGame(Player white, Player black, Engine engine, Board board, Renderer renderer) {
+        this(white, black, engine, board, renderer, Integer.MAX_VALUE);
+    }
+
+    // Games reaching maxPlies are adjudicated as a draw, which keeps batches of automated games bounded
+    public ChessGame(Player white, Player black, Engine engine, Board board, Renderer renderer, int maxPlies) {
+        if (maxPlies < 1) {
+            throw new IllegalArgumentException("maxPlies must be positive, got " + maxPlies);
+        }
+
         this.white = Objects.requireNonNull(white);
         this.black = Objects.requireNonNull(black);
         this.engine = Objects.requireNonNull(engine);
         this.board = Objects.requireNonNull(board);
         this.renderer = Objects.requireNonNull(renderer);
+        this.maxPlies = maxPlies;
     }
 
     public void run() {
@@ -42,13 +58,40 @@ public final class ChessGame implements Game {
                 break;
             }
         }
+
+        flush(white);
+        flush(black);
     }
 
+    public Optional<Report> getReport() {
+        return Optional.ofNullable(report);
+    }
+
+    public int getPlies() {
+        return plies;
+    }
+
+    // Players which buffer outgoing moves, such as a coalescing StreamPlayerProxy, would otherwise keep the final move
+    private static void flush(Player player) {
+        if (player instanceof Flushable) {
+            try {
+                ((Flushable) player).flush();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
 
     private boolean isGameInProgress() {
-        Report report = engine.analyseBoard(board.getSnapshot());
+        plies++;
+        report = engine.analyseBoard(board.getSnapshot());
         GameState gameState = report.getGameState();
 
+        if (plies >= maxPlies && gameState != GameState.CHECKMATE && gameState != GameState.STALEMATE) {
+            report = new Report(report.getPlayersTurn(), GameState.DRAW, Optional.empty(), 0);
+            return false;
+        }
+
         return gameState != GameState.CHECKMATE &&
                 gameState != GameState.STALEMATE &&
                 gameState != GameState.DRAW;
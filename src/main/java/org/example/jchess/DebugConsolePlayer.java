@@ -47,8 +47,8 @@ public class DebugConsolePlayer implements Player {
             }
 
 
-            Move move = new Move(new Position(srcX, srcY),
-                                 new Position(destX, destY),
+            Move move = Move.of(Position.of(srcX, srcY),
+                                 Position.of(destX, destY),
                                  stringToPiece(pieceString),
                                  color,
                                  promotedTo);
@@ -0,0 +1,105 @@
+package org.example.jchess;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+// Writes one line per frame: a keyframe "= <fen>" first and every keyframeInterval frames, and in between only the
+// squares which changed since the previous frame, such as "e4P e2-" for a white pawn move or "e1- f1R g1K h1-" for
+// castling. Pieces use FEN letters and '-' marks a square which became empty.
+public final class DiffRenderer implements Renderer {
+
+    private static final Piece[] PIECES = Piece.values();
+    private static final Color[] COLORS = Color.values();
+
+    private final PrintStream printStream;
+    private final int keyframeInterval;
+
+    private long[] previous;
+    private long frames;
+    private long bytes;
+
+    public DiffRenderer(OutputStream outputStream, int keyframeInterval) {
+        Objects.requireNonNull(outputStream);
+
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be positive, got " + keyframeInterval);
+        }
+
+        this.printStream = new PrintStream(outputStream, false, StandardCharsets.UTF_8);
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    @Override
+    public void draw(BoardSnapshot snapshot) {
+        long[] current = boards(snapshot.getBitboard());
+        StringBuilder frame = new StringBuilder();
+
+        if (previous == null || frames % keyframeInterval == 0) {
+            frame.append("= ").append(Fen.format(snapshot));
+        } else {
+            appendChanges(frame, current);
+        }
+
+        frame.append('\n');
+        previous = current;
+        frames++;
+        bytes += frame.length();
+
+        printStream.print(frame);
+        printStream.flush();
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    // Every character of a frame is ASCII, so this is also the number of bytes written
+    public long getBytesWritten() {
+        return bytes;
+    }
+
+    private void appendChanges(StringBuilder frame, long[] current) {
+        long changed = 0;
+
+        for (int i = 0; i < current.length; i++) {
+            changed |= previous[i] ^ current[i];
+        }
+
+        for (; changed != 0; changed &= changed - 1) {
+            int square = Long.numberOfTrailingZeros(changed);
+
+            if (frame.length() > 0) {
+                frame.append(' ');
+            }
+
+            frame.append(Notation.toSquare(square)).append(letterAt(current, square));
+        }
+    }
+
+    private char letterAt(long[] boards, int square) {
+        for (Color color : COLORS) {
+            for (Piece piece : PIECES) {
+                if ((boards[Bitboard.index(piece, color)] & Bitboard.bit(square)) != 0) {
+                    char letter = Notation.pieceToLetter(piece);
+                    return color == Color.WHITE ? Character.toUpperCase(letter) : letter;
+                }
+            }
+        }
+
+        return '-';
+    }
+
+    private static long[] boards(Bitboard bitboard) {
+        long[] boards = new long[PIECES.length * COLORS.length];
+
+        for (Color color : COLORS) {
+            for (Piece piece : PIECES) {
+                boards[Bitboard.index(piece, color)] = bitboard.getPieces(piece, color);
+            }
+        }
+
+        return boards;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.jchess;
+
+public interface Evaluator {
+
+    // Centipawns from the point of view of the side to move
+    int evaluate(BoardSnapshot boardSnapshot);
+}
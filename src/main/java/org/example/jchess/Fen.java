@@ -0,0 +1,171 @@
+package org.example.jchess;
+
+import java.util.Objects;
+
+public final class Fen {
+
+    public static final String STARTING_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final int BOARDS = Piece.values().length * Color.values().length;
+
+    private Fen() {
+    }
+
+    public static BoardSnapshot parse(String fen) {
+        Objects.requireNonNull(fen);
+
+        String[] fields = fen.trim().split("\\s+");
+
+        // The move counters are optional, as plenty of test suites leave them out
+        if (fields.length != 4 && fields.length != 6) {
+            throw new IllegalArgumentException("Invalid FEN: " + fen);
+        }
+
+        Bitboard bitboard = parsePlacement(fields[0]);
+        Color sideToMove = parseSideToMove(fields[1]);
+        int castlingRights = parseCastlingRights(fields[2]);
+        int enPassantSquare = fields[3].equals("-") ? Bitboard.NO_SQUARE : Notation.parseSquare(fields[3]);
+        int halfmoveClock = fields.length == 6 ? parseCounter(fields[4]) : 0;
+        int fullmoveNumber = fields.length == 6 ? parseCounter(fields[5]) : 1;
+
+        return new BoardSnapshot(bitboard, MoveHistory.empty(), sideToMove, castlingRights,
+                                 enPassantSquare, halfmoveClock, fullmoveNumber);
+    }
+
+    public static String format(BoardSnapshot boardSnapshot) {
+        StringBuilder fen = new StringBuilder();
+        Bitboard bitboard = boardSnapshot.getBitboard();
+
+        for (int y = 0; y < Bitboard.SIZE; y++) {
+            int empty = 0;
+
+            for (int x = 0; x < Bitboard.SIZE; x++) {
+                var tile = bitboard.getTile(x, y);
+
+                if (tile.isEmpty()) {
+                    empty++;
+                    continue;
+                }
+
+                if (empty > 0) {
+                    fen.append(empty);
+                    empty = 0;
+                }
+
+                char letter = Notation.pieceToLetter(tile.get().getPiece());
+                fen.append(tile.get().getPlayerColor() == Color.WHITE ? Character.toUpperCase(letter) : letter);
+            }
+
+            if (empty > 0) {
+                fen.append(empty);
+            }
+
+            if (y < Bitboard.SIZE - 1) {
+                fen.append('/');
+            }
+        }
+
+        int enPassantSquare = boardSnapshot.getEnPassantSquare();
+
+        fen.append(' ').append(boardSnapshot.getSideToMove() == Color.WHITE ? 'w' : 'b')
+           .append(' ').append(formatCastlingRights(boardSnapshot.getCastlingRights()))
+           .append(' ').append(enPassantSquare == Bitboard.NO_SQUARE ? "-" : Notation.toSquare(enPassantSquare))
+           .append(' ').append(boardSnapshot.getHalfmoveClock())
+           .append(' ').append(boardSnapshot.getFullmoveNumber());
+
+        return fen.toString();
+    }
+
+    private static Bitboard parsePlacement(String placement) {
+        String[] rows = placement.split("/");
+
+        if (rows.length != Bitboard.SIZE) {
+            throw new IllegalArgumentException("Invalid piece placement: " + placement);
+        }
+
+        long[] pieces = new long[BOARDS];
+
+        for (int y = 0; y < Bitboard.SIZE; y++) {
+            int x = 0;
+
+            for (char c : rows[y].toCharArray()) {
+                if (c >= '1' && c <= '8') {
+                    x += c - '0';
+                    continue;
+                }
+
+                if (x >= Bitboard.SIZE) {
+                    throw new IllegalArgumentException("Invalid piece placement: " + placement);
+                }
+
+                Color color = Character.isUpperCase(c) ? Color.WHITE : Color.BLACK;
+                pieces[Bitboard.index(Notation.letterToPiece(c), color)] |= Bitboard.bit(Bitboard.square(x++, y));
+            }
+
+            if (x != Bitboard.SIZE) {
+                throw new IllegalArgumentException("Invalid piece placement: " + placement);
+            }
+        }
+
+        return new Bitboard(pieces);
+    }
+
+    private static Color parseSideToMove(String field) {
+        switch (field) {
+            case "w":
+                return Color.WHITE;
+            case "b":
+                return Color.BLACK;
+            default:
+                throw new IllegalArgumentException("Invalid side to move: " + field);
+        }
+    }
+
+    private static int parseCastlingRights(String field) {
+        if (field.equals("-")) {
+            return CastlingRights.NONE;
+        }
+
+        int rights = CastlingRights.NONE;
+
+        for (char c : field.toCharArray()) {
+            switch (c) {
+                case 'K':
+                    rights |= CastlingRights.WHITE_KINGSIDE;
+                    break;
+                case 'Q':
+                    rights |= CastlingRights.WHITE_QUEENSIDE;
+                    break;
+                case 'k':
+                    rights |= CastlingRights.BLACK_KINGSIDE;
+                    break;
+                case 'q':
+                    rights |= CastlingRights.BLACK_QUEENSIDE;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid castling rights: " + field);
+            }
+        }
+
+        return rights;
+    }
+
+    private static String formatCastlingRights(int rights) {
+        if (rights == CastlingRights.NONE) {
+            return "-";
+        }
+
+        return ((rights & CastlingRights.WHITE_KINGSIDE) != 0 ? "K" : "") +
+                ((rights & CastlingRights.WHITE_QUEENSIDE) != 0 ? "Q" : "") +
+                ((rights & CastlingRights.BLACK_KINGSIDE) != 0 ? "k" : "") +
+                ((rights & CastlingRights.BLACK_QUEENSIDE) != 0 ? "q" : "");
+    }
+
+    private static int parseCounter(String field) {
+        try {
+            return Integer.parseInt(field);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid move counter: " + field, e);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package org.example.jchess;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Append-only store of applied moves, kept in memory mapped segment files of a fixed size.
+// Record layout: type byte, game id int, payload length byte, BinaryMoveSerializer payload and a CRC32
+// of everything before it. Segments are zero filled when created, so a zero type marks the end of the data.
+public final class GameLog implements AutoCloseable {
+
+    public static final int DEFAULT_SEGMENT_BYTES = 64 << 20;
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final byte MOVE_RECORD = 1;
+    private static final int HEADER_BYTES = 1 + Integer.BYTES + 1;
+    private static final int RECORD_OVERHEAD = HEADER_BYTES + Integer.BYTES;
+    private static final int MAX_RECORD_BYTES = RECORD_OVERHEAD + BinaryMoveSerializer.PROMOTION_BYTES;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final BinaryMoveSerializer serializer = new BinaryMoveSerializer();
+    private final CRC32 crc = new CRC32();
+
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final Map<Integer, GameIndex> games = new HashMap<>();
+
+    private long writeOffset;
+    private int nextGame;
+    private boolean closed;
+
+    public GameLog(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public GameLog(Path directory, int segmentBytes) throws IOException {
+        if (segmentBytes < MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Segments must hold at least one record, got " + segmentBytes + " bytes");
+        }
+
+        this.directory = Objects.requireNonNull(directory);
+        this.segmentBytes = segmentBytes;
+
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    public synchronized int newGame() {
+        checkOpen();
+        return nextGame++;
+    }
+
+    public synchronized void append(int game, Move move) {
+        checkOpen();
+
+        if (game < 0 || game >= nextGame) {
+            throw new IllegalArgumentException("Unknown game: " + game);
+        }
+
+        int size = RECORD_OVERHEAD + BinaryMoveSerializer.sizeOf(move);
+
+        // Records never straddle two segments; the zeroed rest of a full segment reads as its end
+        if (writeOffset % segmentBytes + size > segmentBytes) {
+            writeOffset = (writeOffset / segmentBytes + 1) * segmentBytes;
+        }
+
+        MappedByteBuffer segment = segmentFor(writeOffset);
+        int position = (int) (writeOffset % segmentBytes);
+        byte[] payload = serializer.serialize(move);
+
+        for (int i = 0; i < payload.length; i++) {
+            segment.put(position + HEADER_BYTES + i, payload[i]);
+        }
+
+        segment.putInt(position + 1, game);
+        segment.put(position + HEADER_BYTES - 1, (byte) payload.length);
+        segment.putInt(position + HEADER_BYTES + payload.length, checksum(game, payload));
+        // The type byte goes last so that a record only becomes visible once it is complete
+        segment.put(position, MOVE_RECORD);
+
+        games.computeIfAbsent(game, g -> new GameIndex()).add(writeOffset);
+        writeOffset += size;
+    }
+
+    public synchronized int getPlies(int game) {
+        checkOpen();
+        GameIndex index = games.get(game);
+        return index == null ? 0 : index.size;
+    }
+
+    public synchronized List<Integer> getGames() {
+        checkOpen();
+        return games.keySet().stream().sorted().collect(Collectors.toList());
+    }
+
+    public synchronized List<Move> getMoves(int game) {
+        return getMoves(game, getPlies(game));
+    }
+
+    // Rebuilds the position of the game after the given number of plies
+    public Board replay(int game, int ply, MoveApplier applier) {
+        Board board = new Board(applier);
+
+        for (Move move : getMoves(game, ply)) {
+            board.applyMove(move);
+        }
+
+        return board;
+    }
+
+    public synchronized long getSizeInBytes() {
+        return writeOffset;
+    }
+
+    // Forces the written records to the storage device, which is only needed to survive an operating system crash
+    public synchronized void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        force();
+        segments.clear();
+        games.clear();
+        closed = true;
+    }
+
+    private synchronized List<Move> getMoves(int game, int plies) {
+        checkOpen();
+
+        GameIndex index = games.get(game);
+        int available = index == null ? 0 : index.size;
+
+        if (plies < 0 || plies > available) {
+            throw new IllegalArgumentException("Game " + game + " has " + available + " plies, requested " + plies);
+        }
+
+        List<Move> moves = new ArrayList<>(plies);
+
+        for (int i = 0; i < plies; i++) {
+            long offset = index.offsets[i];
+            MappedByteBuffer segment = segments.get((int) (offset / segmentBytes));
+            int position = (int) (offset % segmentBytes);
+
+            moves.add(serializer.deserialize(readPayload(segment, position, segment.get(position + HEADER_BYTES - 1))));
+        }
+
+        return moves;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Game log is closed");
+        }
+    }
+
+    private synchronized void recover() throws IOException {
+        List<Path> files;
+        Stream<Path> listing = Files.list(directory);
+
+        try {
+            files = listing.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } finally {
+            listing.close();
+        }
+
+        for (int i = 0; i < files.size(); i++) {
+            if (!files.get(i).equals(segmentPath(i))) {
+                throw new IllegalStateException("Unexpected segment file: " + files.get(i));
+            }
+
+            segments.add(map(files.get(i)));
+        }
+
+        for (int i = 0; i < segments.size(); i++) {
+            MappedByteBuffer segment = segments.get(i);
+            int position = scan(segment, i);
+
+            if (position < 0) {
+                // A torn record: drop it and everything after it
+                int end = -position - 1;
+                zero(segment, end);
+                truncateSegmentsAfter(i);
+                writeOffset = (long) i * segmentBytes + end;
+                break;
+            }
+
+            writeOffset = (long) i * segmentBytes + position;
+        }
+
+        nextGame = games.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1;
+    }
+
+    // Indexes the valid records of a segment and returns where its data ends, or -(end + 1) if a corrupt record follows
+    private int scan(MappedByteBuffer segment, int segmentIndex) {
+        int position = 0;
+
+        while (position + RECORD_OVERHEAD <= segmentBytes) {
+            byte type = segment.get(position);
+
+            if (type == 0) {
+                return position;
+            }
+
+            int length = segment.get(position + HEADER_BYTES - 1);
+            int end = position + HEADER_BYTES + length;
+
+            if (type != MOVE_RECORD || length < BinaryMoveSerializer.MOVE_BYTES || length > BinaryMoveSerializer.PROMOTION_BYTES ||
+                    end + Integer.BYTES > segmentBytes) {
+                return -position - 1;
+            }
+
+            int game = segment.getInt(position + 1);
+            byte[] payload = readPayload(segment, position, length);
+
+            if (game < 0 || segment.getInt(end) != checksum(game, payload)) {
+                return -position - 1;
+            }
+
+            games.computeIfAbsent(game, g -> new GameIndex()).add((long) segmentIndex * segmentBytes + position);
+            position = end + Integer.BYTES;
+        }
+
+        return position;
+    }
+
+    private void truncateSegmentsAfter(int segmentIndex) throws IOException {
+        while (segments.size() > segmentIndex + 1) {
+            segments.remove(segments.size() - 1);
+            Files.delete(segmentPath(segments.size()));
+        }
+    }
+
+    private MappedByteBuffer segmentFor(long offset) {
+        int index = (int) (offset / segmentBytes);
+
+        while (segments.size() <= index) {
+            try {
+                segments.add(map(segmentPath(segments.size())));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return segments.get(index);
+    }
+
+    private MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() != 0 && channel.size() != segmentBytes) {
+                throw new IllegalStateException("Segment " + path + " has " + channel.size() + " bytes, expected " + segmentBytes);
+            }
+
+            // Mapping past the end grows the file, and the new bytes read as zero
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve(String.format("%08d%s", index, SEGMENT_SUFFIX));
+    }
+
+    private int checksum(int game, byte[] payload) {
+        crc.reset();
+        crc.update(MOVE_RECORD);
+        crc.update(game >>> 24);
+        crc.update(game >>> 16);
+        crc.update(game >>> 8);
+        crc.update(game);
+        crc.update(payload.length);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] readPayload(MappedByteBuffer segment, int position, int length) {
+        byte[] payload = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            payload[i] = segment.get(position + HEADER_BYTES + i);
+        }
+
+        return payload;
+    }
+
+    private static void zero(MappedByteBuffer segment, int from) {
+        for (int i = from; i < segment.capacity(); i++) {
+            segment.put(i, (byte) 0);
+        }
+    }
+
+    private static final class GameIndex {
+
+        private long[] offsets = new long[64];
+        private int size;
+
+        private void add(long offset) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+
+            offsets[size++] = offset;
+        }
+    }
+}
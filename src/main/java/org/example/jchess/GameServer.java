@@ -0,0 +1,376 @@
+package org.example.jchess;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hosts any number of remote games on a single thread. Connections are paired in arrival order, the first
+// one playing white. Every connection then receives a MoveFrames frame holding its color's ordinal,
+// after which both sides send their moves as frames and the server forwards each valid move to the
+// opponent. Once a game is over, or a player sends an invalid move, both connections are closed.
+public final class GameServer implements Runnable, AutoCloseable {
+
+    private static final int BUFFER_BYTES = 4096;
+
+    private final Engine engine;
+    private final MoveApplier applier;
+    private final MoveSerializer serializer;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger games = new AtomicInteger();
+    private final AtomicLong finishedGames = new AtomicLong();
+    private final AtomicLong moves = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+
+    private volatile boolean running = true;
+
+    // Only touched by the event loop
+    private Connection waiting;
+
+    public GameServer(InetSocketAddress address, Engine engine, MoveApplier applier, MoveSerializer serializer) throws IOException {
+        this.engine = Objects.requireNonNull(engine);
+        this.applier = Objects.requireNonNull(applier);
+        this.serializer = Objects.requireNonNull(serializer);
+
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+
+        try {
+            serverChannel.bind(Objects.requireNonNull(address));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            selector.close();
+            serverChannel.close();
+            throw e;
+        }
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    public int getGames() {
+        return games.get();
+    }
+
+    public long getFinishedGames() {
+        return finishedGames.get();
+    }
+
+    public long getMoves() {
+        return moves.get();
+    }
+
+    public double getMovesPerSecond() {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed == 0 ? 0 : moves.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+
+                    if (!key.isValid()) {
+                        continue;
+                    }
+
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+
+                    Connection connection = (Connection) key.attachment();
+
+                    try {
+                        if (key.isReadable()) {
+                            read(connection);
+                        }
+
+                        if (key.isValid() && key.isWritable()) {
+                            write(connection);
+                        }
+                    } catch (IOException e) {
+                        disconnect(connection);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            closeAll();
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    // A failure here only ever costs the connections involved, never the games already being hosted
+    private void accept() {
+        SocketChannel channel;
+
+        try {
+            channel = serverChannel.accept();
+        } catch (IOException e) {
+            // Typically out of file descriptors, the connection stays pending and is accepted on a later select
+            return;
+        }
+
+        if (channel == null) {
+            return;
+        }
+
+        Connection connection = new Connection(channel);
+
+        try {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            return;
+        }
+
+        connections.incrementAndGet();
+
+        if (waiting == null || !waiting.channel.isOpen()) {
+            waiting = connection;
+            return;
+        }
+
+        ServerGame game = new ServerGame(new Board(applier), waiting, connection);
+        waiting.game = game;
+        waiting.color = Color.WHITE;
+        connection.game = game;
+        connection.color = Color.BLACK;
+        waiting = null;
+        games.incrementAndGet();
+
+        try {
+            send(game.white, new byte[]{(byte) Color.WHITE.ordinal()});
+            send(game.black, new byte[]{(byte) Color.BLACK.ordinal()});
+        } catch (IOException e) {
+            // The waiting peer may have reset its connection before its end of stream was read
+            disconnect(connection);
+        }
+    }
+
+    private void read(Connection connection) throws IOException {
+        if (connection.channel.read(connection.input) < 0) {
+            disconnect(connection);
+            return;
+        }
+
+        connection.input.flip();
+
+        while (connection.channel.isOpen() && MoveFrames.hasFrame(connection.input)) {
+            byte[] payload = MoveFrames.read(connection.input);
+
+            // Anything sent before the game started or out of turn ends the game like an invalid move
+            if (connection.game == null) {
+                disconnect(connection);
+                break;
+            }
+
+            handleMove(connection, payload);
+        }
+
+        if (connection.channel.isOpen()) {
+            connection.input.compact();
+
+            // A frame that can never fit would otherwise keep the key readable forever
+            if (!connection.input.hasRemaining()) {
+                disconnect(connection);
+            }
+        }
+    }
+
+    private void handleMove(Connection connection, byte[] payload) throws IOException {
+        ServerGame game = connection.game;
+        BoardSnapshot snapshot = game.board.getSnapshot();
+        Move move;
+
+        try {
+            move = serializer.deserialize(payload);
+        } catch (RuntimeException e) {
+            endGame(game);
+            return;
+        }
+
+        if (move.getColor() != connection.color || snapshot.getSideToMove() != connection.color ||
+                !engine.isValidMove(snapshot, move)) {
+            endGame(game);
+            return;
+        }
+
+        game.board.applyMove(move);
+        moves.incrementAndGet();
+        send(game.opponentOf(connection), payload);
+
+        GameState state = engine.analyseBoard(game.board.getSnapshot()).getGameState();
+
+        if (state == GameState.CHECKMATE || state == GameState.STALEMATE || state == GameState.DRAW) {
+            finishedGames.incrementAndGet();
+            endGame(game);
+        }
+    }
+
+    private void send(Connection connection, byte[] payload) throws IOException {
+        if (connection.output.remaining() < MoveFrames.HEADER_BYTES + payload.length) {
+            // A peer that lets this much pile up is not reading its moves
+            disconnect(connection);
+            return;
+        }
+
+        MoveFrames.write(connection.output, payload);
+        write(connection);
+    }
+
+    private void write(Connection connection) throws IOException {
+        connection.output.flip();
+        connection.channel.write(connection.output);
+        connection.output.compact();
+
+        // Only ask for writability while something is left over, otherwise the selector would spin
+        int interest = connection.output.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+
+        if (connection.key.interestOps() != interest) {
+            connection.key.interestOps(interest);
+        }
+    }
+
+    private void endGame(ServerGame game) {
+        // Moves written so far are flushed on a best effort basis, the sockets are closed right after
+        flushQuietly(game.white);
+        flushQuietly(game.black);
+        disconnect(game.white);
+        disconnect(game.black);
+    }
+
+    private void disconnect(Connection connection) {
+        if (!connection.channel.isOpen()) {
+            return;
+        }
+
+        connection.key.cancel();
+        closeQuietly(connection.channel);
+        connections.decrementAndGet();
+
+        if (connection.game != null && !connection.game.over) {
+            connection.game.over = true;
+            games.decrementAndGet();
+            disconnect(connection.game.opponentOf(connection));
+        }
+    }
+
+    private void flushQuietly(Connection connection) {
+        if (!connection.channel.isOpen()) {
+            return;
+        }
+
+        try {
+            connection.output.flip();
+            connection.channel.write(connection.output);
+            connection.output.compact();
+        } catch (IOException e) {
+            // The connection is closed right after anyway
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection) {
+                disconnect((Connection) key.attachment());
+            }
+        }
+
+        closeQuietly(serverChannel);
+        closeQuietly(selector);
+    }
+
+    private void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // Nothing more can be done about it
+        }
+    }
+
+    private static final class Connection {
+
+        private final SocketChannel channel;
+        private final ByteBuffer input = ByteBuffer.allocate(BUFFER_BYTES);
+        private final ByteBuffer output = ByteBuffer.allocate(BUFFER_BYTES);
+
+        private SelectionKey key;
+        private ServerGame game;
+        private Color color;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    private static final class ServerGame {
+
+        private final Board board;
+        private final Connection white;
+        private final Connection black;
+
+        private boolean over;
+
+        private ServerGame(Board board, Connection white, Connection black) {
+            this.board = board;
+            this.white = white;
+            this.black = black;
+        }
+
+        private Connection opponentOf(Connection connection) {
+            return connection == white ? black : white;
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7000;
+
+        BasicMoveValidator validator = new BasicMoveValidator();
+        Engine engine = new BasicEngine(validator, new LegalMoveGenerator(), validator);
+
+        try (GameServer server = new GameServer(new InetSocketAddress(port), engine, validator, new BinaryMoveSerializer())) {
+            Thread loop = new Thread(server, "game-server");
+            loop.start();
+
+            while (loop.isAlive()) {
+                loop.join(TimeUnit.SECONDS.toMillis(5));
+                System.out.printf("connections: %d, games: %d, finished: %d, moves/s: %.1f%n",
+                        server.getConnections(), server.getGames(), server.getFinishedGames(), server.getMovesPerSecond());
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.jchess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public final class LazySmpSearcher implements Searcher, AutoCloseable {
+
+    private final AlphaBetaSearcher main;
+    private final List<AlphaBetaSearcher> helpers = new ArrayList<>();
+    private final ExecutorService executor;
+
+    // Every searcher must share one transposition table, which is the only way the threads help each other
+    public LazySmpSearcher(Supplier<AlphaBetaSearcher> searchers, int threads) {
+        Objects.requireNonNull(searchers);
+
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required, got " + threads);
+        }
+
+        this.main = Objects.requireNonNull(searchers.get());
+
+        for (int i = 1; i < threads; i++) {
+            helpers.add(Objects.requireNonNull(searchers.get()));
+        }
+
+        this.executor = helpers.isEmpty() ? null : Executors.newFixedThreadPool(helpers.size(), daemonThreads());
+    }
+
+    public int getThreads() {
+        return helpers.size() + 1;
+    }
+
+    @Override
+    public SearchResult search(BoardSnapshot boardSnapshot, SearchLimits limits, Consumer<SearchResult> onIteration) {
+        Objects.requireNonNull(boardSnapshot);
+
+        // A single thread is exactly the plain search, which keeps results reproducible
+        if (helpers.isEmpty()) {
+            return main.search(boardSnapshot, limits, onIteration);
+        }
+
+        List<Future<SearchResult>> futures = new ArrayList<>(helpers.size());
+
+        for (int i = 0; i < helpers.size(); i++) {
+            AlphaBetaSearcher helper = helpers.get(i);
+            // Half of the helpers run one ply ahead of the main thread so that they fill the table for its next iteration
+            int firstDepth = 1 + (i + 1) % 2;
+
+            helper.prepareHelper();
+            futures.add(executor.submit(() -> helper.searchAsHelper(boardSnapshot, firstDepth)));
+        }
+
+        SearchResult result;
+        try {
+            result = main.search(boardSnapshot, limits, onIteration);
+        } finally {
+            for (AlphaBetaSearcher helper : helpers) {
+                helper.stop();
+            }
+        }
+
+        long nodes = result.getNodes();
+
+        for (Future<SearchResult> future : futures) {
+            nodes += await(future).getNodes();
+        }
+
+        return new SearchResult(result.getPrincipalVariation(), result.getScore(), result.getDepth(), nodes, result.getTimeMillis());
+    }
+
+    @Override
+    public void stop() {
+        main.stop();
+
+        for (AlphaBetaSearcher helper : helpers) {
+            helper.stop();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            stop();
+            executor.shutdownNow();
+        }
+    }
+
+    private SearchResult await(Future<SearchResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for search helpers", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search helper failed", e.getCause());
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, "search-helper-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
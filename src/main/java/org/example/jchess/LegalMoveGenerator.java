@@ -0,0 +1,155 @@
+package org.example.jchess;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class LegalMoveGenerator implements MoveGenerator {
+
+    private static final Piece[] PROMOTIONS = {Piece.QUEEN, Piece.ROOK, Piece.BISHOP, Piece.KNIGHT};
+
+    private final AttackMapCheckChecker checkChecker = new AttackMapCheckChecker();
+
+    @Override
+    public List<Move> generateValidMoves(BoardSnapshot boardSnapshot) {
+        Color player = boardSnapshot.getSideToMove();
+        Bitboard board = boardSnapshot.getBitboard();
+        CheckInfo checkInfo = checkChecker.getCheckInfo(board, player);
+        long own = board.getOccupancy(player);
+        long occupied = board.getOccupancy();
+        List<Move> result = new ArrayList<>();
+
+        int king = checkInfo.getKingSquare();
+        for (long targets = Attacks.king(king) & ~own; targets != 0; targets &= targets - 1) {
+            int to = Long.numberOfTrailingZeros(targets);
+
+            if (checkInfo.isSafeForKing(to)) {
+                result.add(Move.of(king, to, Piece.KING, player));
+            }
+        }
+
+        // Under double check only the king can move
+        if (checkInfo.isDoubleCheck()) {
+            return result;
+        }
+
+        long evasions = checkInfo.getEvasionMask() & ~own;
+
+        addPawnMoves(boardSnapshot, checkInfo, player, result);
+
+        for (long knights = board.getPieces(Piece.KNIGHT, player) & ~checkInfo.getPinned(); knights != 0; knights &= knights - 1) {
+            int from = Long.numberOfTrailingZeros(knights);
+            addMoves(from, Attacks.knight(from) & evasions, Piece.KNIGHT, player, result);
+        }
+
+        for (long bishops = board.getPieces(Piece.BISHOP, player); bishops != 0; bishops &= bishops - 1) {
+            int from = Long.numberOfTrailingZeros(bishops);
+            addMoves(from, Attacks.bishop(from, occupied) & evasions & checkInfo.getPinRay(from), Piece.BISHOP, player, result);
+        }
+
+        for (long rooks = board.getPieces(Piece.ROOK, player); rooks != 0; rooks &= rooks - 1) {
+            int from = Long.numberOfTrailingZeros(rooks);
+            addMoves(from, Attacks.rook(from, occupied) & evasions & checkInfo.getPinRay(from), Piece.ROOK, player, result);
+        }
+
+        for (long queens = board.getPieces(Piece.QUEEN, player); queens != 0; queens &= queens - 1) {
+            int from = Long.numberOfTrailingZeros(queens);
+            addMoves(from, Attacks.queen(from, occupied) & evasions & checkInfo.getPinRay(from), Piece.QUEEN, player, result);
+        }
+
+        if (!checkInfo.isInCheck()) {
+            addCastlingMoves(board, boardSnapshot.getCastlingRights(), checkInfo, player, result);
+        }
+
+        return result;
+    }
+
+    private void addMoves(int from, long targets, Piece piece, Color player, List<Move> result) {
+        for (; targets != 0; targets &= targets - 1) {
+            result.add(Move.of(from, Long.numberOfTrailingZeros(targets), piece, player));
+        }
+    }
+
+    private void addPawnMoves(BoardSnapshot boardSnapshot, CheckInfo checkInfo, Color player, List<Move> result) {
+        Bitboard board = boardSnapshot.getBitboard();
+        long enemy = board.getOccupancy(opponent(player));
+        long evasions = checkInfo.getEvasionMask();
+        int enPassantSquare = boardSnapshot.getEnPassantSquare();
+        int forward = player == Color.WHITE ? -Bitboard.SIZE : Bitboard.SIZE;
+        int startingY = player == Color.WHITE ? 6 : 1;
+
+        for (long pawns = board.getPieces(Piece.PAWN, player); pawns != 0; pawns &= pawns - 1) {
+            int from = Long.numberOfTrailingZeros(pawns);
+            long allowed = evasions & checkInfo.getPinRay(from);
+            int single = from + forward;
+
+            // A double push may block a check even when the single push does not
+            if (!board.isOccupied(single)) {
+                if ((allowed & Bitboard.bit(single)) != 0) {
+                    addPawnMove(from, single, player, result);
+                }
+
+                int twice = single + forward;
+                if (Bitboard.getY(from) == startingY && !board.isOccupied(twice) && (allowed & Bitboard.bit(twice)) != 0) {
+                    addPawnMove(from, twice, player, result);
+                }
+            }
+
+            long attacks = Attacks.pawn(player, from);
+
+            for (long captures = attacks & enemy & allowed; captures != 0; captures &= captures - 1) {
+                addPawnMove(from, Long.numberOfTrailingZeros(captures), player, result);
+            }
+
+            if (enPassantSquare != Bitboard.NO_SQUARE && (attacks & Bitboard.bit(enPassantSquare)) != 0 &&
+                    checkInfo.isLegalEnPassant(from, enPassantSquare)) {
+                result.add(Move.of(from, enPassantSquare, Piece.PAWN, player));
+            }
+        }
+    }
+
+    private void addPawnMove(int from, int to, Color player, List<Move> result) {
+        int destY = Bitboard.getY(to);
+
+        if (destY == 0 || destY == 7) {
+            for (Piece promotion : PROMOTIONS) {
+                result.add(Move.of(from, to, player, promotion));
+            }
+        } else {
+            result.add(Move.of(from, to, Piece.PAWN, player));
+        }
+    }
+
+    private void addCastlingMoves(Bitboard board, int castlingRights, CheckInfo checkInfo, Color player, List<Move> result) {
+        int castlingY = player == Color.WHITE ? 7 : 0;
+        int kingsStartingX = 4;
+        int from = checkInfo.getKingSquare();
+
+        if (from != Bitboard.square(kingsStartingX, castlingY)) {
+            return;
+        }
+
+        long rooks = board.getPieces(Piece.ROOK, player);
+        long occupied = board.getOccupancy();
+
+        for (int rooksX = 0; rooksX < Bitboard.SIZE; rooksX += 7) {
+            int direction = rooksX > kingsStartingX ? 1 : -1;
+            int side = direction > 0 ? CastlingRights.kingside(player) : CastlingRights.queenside(player);
+            int rook = Bitboard.square(rooksX, castlingY);
+            int passed = from + direction;
+            int dest = from + 2 * direction;
+
+            if ((castlingRights & side) == 0 || (rooks & Bitboard.bit(rook)) == 0 ||
+                    (occupied & Attacks.between(from, rook)) != 0) {
+                continue;
+            }
+
+            if (!checkInfo.isAttacked(passed) && !checkInfo.isAttacked(dest)) {
+                result.add(Move.of(from, dest, Piece.KING, player));
+            }
+        }
+    }
+
+    private Color opponent(Color player) {
+        return player == Color.BLACK ? Color.WHITE : Color.BLACK;
+    }
+}
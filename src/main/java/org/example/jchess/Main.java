@@ -4,9 +4,10 @@ public class Main {
 
     public static void main(String[] args) {
         final int DELAY_MS = 1000;
+        final int TABLE_SIZE_MB = 64;
 
         MoveValidator validator = new BasicMoveValidator();
-        MoveGenerator generator = new BasicMoveGenerator(validator);
+        MoveGenerator generator = new LegalMoveGenerator();
         MoveApplier applier = new BasicMoveValidator();
 
         CheckChecker checker = new BasicMoveValidator();
@@ -17,14 +18,25 @@ public class Main {
         Board blackBoard = new Board(applier);
         Board gameBoard = new Board(applier);
 
+        TranspositionTable table = new TranspositionTable(TABLE_SIZE_MB);
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        // Each thread gets its own generator and validator, only the table is shared
+        Searcher searcher = new LazySmpSearcher(() -> {
+            BasicMoveValidator searchValidator = new BasicMoveValidator();
+            return new AlphaBetaSearcher(new LegalMoveGenerator(), searchValidator, searchValidator, new PieceSquareEvaluator(), table);
+        }, threads);
+
         Player white = new ChaoticPlayer(whiteBoard, generator);
-        Player black = new ChaoticPlayer(blackBoard, generator);
+        Player black = new SearchingPlayer(blackBoard, searcher, SearchLimits.time(DELAY_MS));
 
-        Renderer baseRenderer = new StreamRenderer(System.out);
-        Renderer renderer = new DelayRendererDecorator(baseRenderer, DELAY_MS);
+        // Terminal output happens on the render thread, the delay only paces the game for the viewer
+        try (AsyncRendererDecorator asyncRenderer = new AsyncRendererDecorator(new StreamRenderer(System.out), 4)) {
+            Renderer renderer = new DelayRendererDecorator(asyncRenderer, DELAY_MS);
 
-        Game game = new ChessGame(white, black, engine, gameBoard, renderer);
+            Game game = new ChessGame(white, black, engine, gameBoard, renderer);
 
-        game.run();
+            game.run();
+        }
     }
 }
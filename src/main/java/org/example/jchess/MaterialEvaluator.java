@@ -0,0 +1,36 @@
+package org.example.jchess;
+
+public final class MaterialEvaluator implements Evaluator {
+
+    @Override
+    public int evaluate(BoardSnapshot boardSnapshot) {
+        Bitboard board = boardSnapshot.getBitboard();
+        int score = 0;
+
+        for (Piece piece : Piece.values()) {
+            score += valueOf(piece) * (Long.bitCount(board.getPieces(piece, Color.WHITE)) -
+                                       Long.bitCount(board.getPieces(piece, Color.BLACK)));
+        }
+
+        return boardSnapshot.getSideToMove() == Color.WHITE ? score : -score;
+    }
+
+    public static int valueOf(Piece piece) {
+        switch (piece) {
+            case BISHOP:
+                return 330;
+            case KING:
+                return 0;
+            case KNIGHT:
+                return 320;
+            case PAWN:
+                return 100;
+            case QUEEN:
+                return 900;
+            case ROOK:
+                return 500;
+            default:
+                throw new IllegalStateException("Unexpected value: " + piece);
+        }
+    }
+}
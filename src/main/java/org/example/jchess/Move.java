@@ -5,6 +5,14 @@ import java.util.Optional;
 
 public final class Move {
 
+    private static final int SQUARES = 64;
+    private static final int PIECES = Piece.values().length;
+    // Every piece of either color, followed by a pawn promoting to each piece of either color
+    private static final int KINDS = 2 * PIECES * Color.values().length;
+
+    // Filled lazily; racing threads may both create a move, which is harmless as all fields are final
+    private static final Move[] INTERNED = new Move[KINDS * SQUARES * SQUARES];
+
     private final Position from;
     private final Position to;
     private final Piece piece;
@@ -19,6 +27,46 @@ public final class Move {
         this.promotedTo = Objects.requireNonNull(promotedTo);
     }
 
+    public static Move of(Position from, Position to, Piece piece, Color color, Optional<Piece> promotedTo) {
+        if (!isOnBoard(from) || !isOnBoard(to) || (promotedTo.isPresent() && piece != Piece.PAWN)) {
+            return new Move(from, to, piece, color, promotedTo);
+        }
+
+        int from64 = from.getY() * 8 + from.getX();
+        int to64 = to.getY() * 8 + to.getX();
+
+        return promotedTo.isPresent() ? of(from64, to64, color, promotedTo.get()) : of(from64, to64, piece, color);
+    }
+
+    // Squares are numbered y * 8 + x, as in Bitboard
+    public static Move of(int from, int to, Piece piece, Color color) {
+        int index = ((color.ordinal() * 2 * PIECES + piece.ordinal()) * SQUARES + from) * SQUARES + to;
+        Move move = INTERNED[index];
+
+        if (move == null) {
+            move = new Move(Position.of(from), Position.of(to), piece, color, Optional.empty());
+            INTERNED[index] = move;
+        }
+
+        return move;
+    }
+
+    public static Move of(int from, int to, Color color, Piece promotedTo) {
+        int index = ((color.ordinal() * 2 * PIECES + PIECES + promotedTo.ordinal()) * SQUARES + from) * SQUARES + to;
+        Move move = INTERNED[index];
+
+        if (move == null) {
+            move = new Move(Position.of(from), Position.of(to), Piece.PAWN, color, Optional.of(promotedTo));
+            INTERNED[index] = move;
+        }
+
+        return move;
+    }
+
+    private static boolean isOnBoard(Position position) {
+        return position.getX() >= 0 && position.getX() < 8 && position.getY() >= 0 && position.getY() < 8;
+    }
+
     public Position getFrom() {
         return from;
     }
@@ -0,0 +1,64 @@
+package org.example.jchess;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+// Each frame is an unsigned 16 bit big endian length followed by that many bytes of serialized move
+public final class MoveFrames {
+
+    public static final int HEADER_BYTES = 2;
+    public static final int MAX_PAYLOAD_BYTES = 0xFFFF;
+
+    private MoveFrames() {
+    }
+
+    public static void write(DataOutput output, byte[] payload) throws IOException {
+        checkLength(payload.length);
+
+        output.writeShort(payload.length);
+        output.write(payload);
+    }
+
+    // Throws EOFException when the stream ends, also in the middle of a frame
+    public static byte[] read(DataInput input) throws IOException {
+        byte[] payload = new byte[input.readUnsignedShort()];
+        input.readFully(payload);
+        return payload;
+    }
+
+    public static void write(ByteBuffer buffer, byte[] payload) {
+        checkLength(payload.length);
+
+        buffer.putShort((short) payload.length);
+        buffer.put(payload);
+    }
+
+    // Returns true when a whole frame is buffered. Only peeks at the length, the buffer is never modified
+    public static boolean hasFrame(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_BYTES) {
+            return false;
+        }
+
+        int length = buffer.getShort(buffer.position()) & 0xFFFF;
+        return buffer.remaining() >= HEADER_BYTES + length;
+    }
+
+    public static byte[] read(ByteBuffer buffer) {
+        if (!hasFrame(buffer)) {
+            throw new BufferUnderflowException();
+        }
+
+        byte[] payload = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(payload);
+        return payload;
+    }
+
+    private static void checkLength(int length) {
+        if (length > MAX_PAYLOAD_BYTES) {
+            throw new IllegalArgumentException("Frame payload too long: " + length);
+        }
+    }
+}
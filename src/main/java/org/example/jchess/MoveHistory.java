@@ -0,0 +1,133 @@
+package org.example.jchess;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class MoveHistory implements Iterable<Move> {
+
+    private static final int CHUNK_SHIFT = 5;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final MoveHistory EMPTY = new MoveHistory(new Chunk[0], 0);
+
+    // Moves live in fixed size chunks shared by every history that extends them. Appending claims the next free slot
+    // of the last chunk; a history which branches off an already extended prefix copies only that last chunk
+    private final Chunk[] chunks;
+    private final int size;
+
+    private MoveHistory(Chunk[] chunks, int size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    public static MoveHistory empty() {
+        return EMPTY;
+    }
+
+    public static MoveHistory of(List<Move> moves) {
+        Objects.requireNonNull(moves);
+        MoveHistory history = EMPTY;
+
+        for (Move move : moves) {
+            history = history.append(move);
+        }
+
+        return history;
+    }
+
+    public MoveHistory append(Move move) {
+        Objects.requireNonNull(move);
+        int index = size & CHUNK_MASK;
+
+        if (index == 0) {
+            Chunk[] next = Arrays.copyOf(chunks, chunks.length + 1);
+            next[chunks.length] = new Chunk(new Move[CHUNK_SIZE], 1);
+            next[chunks.length].moves[0] = move;
+            return new MoveHistory(next, size + 1);
+        }
+
+        Chunk last = chunks[chunks.length - 1];
+
+        if (last.used.compareAndSet(index, index + 1)) {
+            last.moves[index] = move;
+            return new MoveHistory(chunks, size + 1);
+        }
+
+        Move[] moves = Arrays.copyOf(last.moves, CHUNK_SIZE);
+        Arrays.fill(moves, index, CHUNK_SIZE, null);
+        moves[index] = move;
+
+        Chunk[] next = chunks.clone();
+        next[chunks.length - 1] = new Chunk(moves, index + 1);
+        return new MoveHistory(next, size + 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Optional<Move> getFirst() {
+        return size == 0 ? Optional.empty() : Optional.of(get(0));
+    }
+
+    public Optional<Move> getLast() {
+        return size == 0 ? Optional.empty() : Optional.of(get(size - 1));
+    }
+
+    // An unmodifiable view over the shared chunks, nothing is copied
+    public List<Move> toList() {
+        return new MoveList();
+    }
+
+    @Override
+    public Iterator<Move> iterator() {
+        return toList().iterator();
+    }
+
+    private Move get(int index) {
+        return chunks[index >>> CHUNK_SHIFT].moves[index & CHUNK_MASK];
+    }
+
+    @Override
+    public String toString() {
+        return "MoveHistory{" +
+                "moves=" + toList() +
+                '}';
+    }
+
+    private static final class Chunk {
+
+        private final Move[] moves;
+        private final AtomicInteger used;
+
+        Chunk(Move[] moves, int used) {
+            this.moves = moves;
+            this.used = new AtomicInteger(used);
+        }
+    }
+
+    private final class MoveList extends AbstractList<Move> implements RandomAccess {
+
+        @Override
+        public Move get(int index) {
+            Objects.checkIndex(index, size);
+            return MoveHistory.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.jchess;
+
+public final class Notation {
+
+    private Notation() {
+    }
+
+    public static String toCoordinates(Move move) {
+        return toSquare(move.getFrom()) +
+                toSquare(move.getTo()) +
+                move.getPromotedTo().map(p -> String.valueOf(pieceToLetter(p))).orElse("");
+    }
+
+    public static String toSquare(Position position) {
+        char file = (char) ('a' + position.getX());
+        int rank = Bitboard.SIZE - position.getY();
+        return file + Integer.toString(rank);
+    }
+
+    public static String toSquare(int square) {
+        return toSquare(Position.of(square));
+    }
+
+    public static int parseSquare(String square) {
+        if (square.length() != 2) {
+            throw new IllegalArgumentException("Invalid square: " + square);
+        }
+
+        int x = square.charAt(0) - 'a';
+        int y = Bitboard.SIZE - (square.charAt(1) - '0');
+
+        if (x < 0 || x >= Bitboard.SIZE || y < 0 || y >= Bitboard.SIZE) {
+            throw new IllegalArgumentException("Invalid square: " + square);
+        }
+
+        return Bitboard.square(x, y);
+    }
+
+    public static char pieceToLetter(Piece piece) {
+        switch (piece) {
+            case BISHOP:
+                return 'b';
+            case KING:
+                return 'k';
+            case KNIGHT:
+                return 'n';
+            case PAWN:
+                return 'p';
+            case QUEEN:
+                return 'q';
+            case ROOK:
+                return 'r';
+            default:
+                throw new IllegalStateException("Unexpected value: " + piece);
+        }
+    }
+
+    public static Piece letterToPiece(char letter) {
+        switch (Character.toLowerCase(letter)) {
+            case 'b':
+                return Piece.BISHOP;
+            case 'k':
+                return Piece.KING;
+            case 'n':
+                return Piece.KNIGHT;
+            case 'p':
+                return Piece.PAWN;
+            case 'q':
+                return Piece.QUEEN;
+            case 'r':
+                return Piece.ROOK;
+            default:
+                throw new IllegalArgumentException("Unexpected piece: " + letter);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.jchess;
+
+public final class NullRenderer implements Renderer {
+
+    @Override
+    public void draw(BoardSnapshot snapshot) {
+    }
+}
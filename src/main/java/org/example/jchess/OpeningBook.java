@@ -0,0 +1,155 @@
+package org.example.jchess;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+// A read-only book file written by OpeningBookBuilder: a header followed by entries of position key,
+// packed move and weight, sorted by key and then by descending weight. Lookups are a binary search
+// over the mapped file, so probing reads no more than a few pages and allocates nothing but the result.
+public final class OpeningBook {
+
+    static final int MAGIC = 0x4A43424B;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int ENTRY_BYTES = Long.BYTES + Short.BYTES + Short.BYTES;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final Piece[] PIECES = Piece.values();
+
+    private final ByteBuffer entries;
+    private final int size;
+
+    public OpeningBook(Path path) throws IOException {
+        MappedByteBuffer mapped;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        mapped.order(ORDER);
+
+        if (mapped.capacity() < HEADER_BYTES || mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not an opening book: " + path);
+        }
+
+        long count = mapped.getLong(8);
+
+        if (count < 0 || HEADER_BYTES + count * ENTRY_BYTES != mapped.capacity()) {
+            throw new IllegalArgumentException("Corrupt opening book: " + path);
+        }
+
+        this.size = (int) count;
+        this.entries = mapped.position(HEADER_BYTES).slice().order(ORDER);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Picks one of the book moves for the position with a probability proportional to its weight
+    public Optional<Move> pick(BoardSnapshot boardSnapshot, SplittableRandom random) {
+        long key = boardSnapshot.getKey();
+        int first = lowerBound(key);
+        int total = 0;
+
+        for (int i = first; i < size && getKey(i) == key; i++) {
+            total += getWeight(i);
+        }
+
+        if (total == 0) {
+            return Optional.empty();
+        }
+
+        int target = random.nextInt(total);
+        int i = first;
+
+        while (target >= getWeight(i)) {
+            target -= getWeight(i);
+            i++;
+        }
+
+        return Optional.ofNullable(decode(getMove(i), boardSnapshot));
+    }
+
+    public List<Move> getMoves(BoardSnapshot boardSnapshot) {
+        long key = boardSnapshot.getKey();
+        List<Move> moves = new ArrayList<>();
+
+        for (int i = lowerBound(key); i < size && getKey(i) == key; i++) {
+            Move move = decode(getMove(i), boardSnapshot);
+
+            if (move != null) {
+                moves.add(move);
+            }
+        }
+
+        return moves;
+    }
+
+    static int pack(Move move) {
+        int promotion = move.getPromotedTo().map(p -> p.ordinal() + 1).orElse(0);
+        return Bitboard.square(move.getFrom()) | Bitboard.square(move.getTo()) << 6 | promotion << 12;
+    }
+
+    // Piece and color come from the position; a move that does not fit it, which only a key collision
+    // can cause, is ignored
+    private Move decode(int packed, BoardSnapshot boardSnapshot) {
+        int from = packed & 0x3F;
+        int to = packed >>> 6 & 0x3F;
+        int promotion = packed >>> 12 & 0x7;
+        Color color = boardSnapshot.getSideToMove();
+        Bitboard board = boardSnapshot.getBitboard();
+
+        for (Piece piece : PIECES) {
+            if ((board.getPieces(piece, color) & Bitboard.bit(from)) == 0) {
+                continue;
+            }
+
+            if (promotion == 0) {
+                return Move.of(from, to, piece, color);
+            }
+
+            return piece == Piece.PAWN ? Move.of(from, to, color, PIECES[promotion - 1]) : null;
+        }
+
+        return null;
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (getKey(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private long getKey(int index) {
+        return entries.getLong(index * ENTRY_BYTES);
+    }
+
+    private int getMove(int index) {
+        return entries.getShort(index * ENTRY_BYTES + Long.BYTES) & 0xFFFF;
+    }
+
+    private int getWeight(int index) {
+        return entries.getShort(index * ENTRY_BYTES + Long.BYTES + Short.BYTES) & 0xFFFF;
+    }
+}
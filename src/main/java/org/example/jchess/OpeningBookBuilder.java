@@ -0,0 +1,101 @@
+package org.example.jchess;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public final class OpeningBookBuilder {
+
+    private static final int MAX_WEIGHT = 0xFFFF;
+
+    private final MoveApplier applier;
+    private final int maxPlies;
+    private final Map<Long, Map<Integer, Integer>> positions = new HashMap<>();
+
+    // Only the first maxPlies moves of every game go into the book
+    public OpeningBookBuilder(MoveApplier applier, int maxPlies) {
+        if (maxPlies < 1) {
+            throw new IllegalArgumentException("maxPlies must be positive, got " + maxPlies);
+        }
+
+        this.applier = Objects.requireNonNull(applier);
+        this.maxPlies = maxPlies;
+    }
+
+    public void add(BoardSnapshot start, List<Move> moves) {
+        BoardSnapshot snapshot = Objects.requireNonNull(start);
+
+        for (int ply = 0; ply < Math.min(maxPlies, moves.size()); ply++) {
+            Move move = moves.get(ply);
+
+            positions.computeIfAbsent(snapshot.getKey(), k -> new HashMap<>())
+                     .merge(OpeningBook.pack(move), 1, (a, b) -> Math.min(MAX_WEIGHT, a + b));
+            snapshot = applier.applyMove(snapshot, move);
+        }
+    }
+
+    public void add(PgnGame game) {
+        add(game.getStartingPosition(), game.getMoves());
+    }
+
+    public int getPositions() {
+        return positions.size();
+    }
+
+    public void write(Path path) throws IOException {
+        List<long[]> entries = new ArrayList<>();
+
+        for (Map.Entry<Long, Map<Integer, Integer>> position : positions.entrySet()) {
+            for (Map.Entry<Integer, Integer> move : position.getValue().entrySet()) {
+                entries.add(new long[]{position.getKey(), move.getKey(), move.getValue()});
+            }
+        }
+
+        // Key order for the binary search, heaviest move first within a position
+        entries.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(b[2], a[2]));
+
+        ByteBuffer buffer = ByteBuffer.allocate(OpeningBook.HEADER_BYTES + entries.size() * OpeningBook.ENTRY_BYTES)
+                                      .order(OpeningBook.ORDER);
+        buffer.putInt(OpeningBook.MAGIC).putInt(OpeningBook.VERSION).putLong(entries.size());
+
+        for (long[] entry : entries) {
+            buffer.putLong(entry[0]).putShort((short) entry[1]).putShort((short) entry[2]);
+        }
+
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: OpeningBookBuilder <games.pgn> <book.bin> [maxPlies]");
+            return;
+        }
+
+        int maxPlies = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        OpeningBookBuilder builder = new OpeningBookBuilder(new BasicMoveValidator(), maxPlies);
+
+        try (PgnReader reader = new PgnReader(Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8))) {
+            reader.games().forEach(builder::add);
+        }
+
+        builder.write(Paths.get(args[1]));
+        System.out.println(builder.getPositions() + " positions written to " + args[1]);
+    }
+}
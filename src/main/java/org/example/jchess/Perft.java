@@ -0,0 +1,89 @@
+package org.example.jchess;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+public final class Perft {
+
+    private final MoveGenerator generator;
+    private final MoveApplier applier;
+
+    public Perft(MoveGenerator generator, MoveApplier applier) {
+        this.generator = Objects.requireNonNull(generator);
+        this.applier = Objects.requireNonNull(applier);
+    }
+
+    public long countNodes(BoardSnapshot boardSnapshot, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+
+        List<Move> moves = generator.generateValidMoves(boardSnapshot);
+
+        // Leaves do not need to be applied, only counted
+        if (depth == 1) {
+            return moves.size();
+        }
+
+        long nodes = 0;
+        for (Move move : moves) {
+            nodes += countNodes(applier.applyMove(boardSnapshot, move), depth - 1);
+        }
+
+        return nodes;
+    }
+
+    public Map<Move, Long> divide(BoardSnapshot boardSnapshot, int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Depth must be positive, got " + depth);
+        }
+
+        Map<Move, Long> result = new LinkedHashMap<>();
+
+        for (Move move : generator.generateValidMoves(boardSnapshot)) {
+            result.put(move, countNodes(applier.applyMove(boardSnapshot, move), depth - 1));
+        }
+
+        return result;
+    }
+
+    public long run(BoardSnapshot boardSnapshot, int depth, PrintStream out) {
+        long start = System.nanoTime();
+        Map<Move, Long> divided = divide(boardSnapshot, depth);
+        long elapsed = System.nanoTime() - start;
+
+        long nodes = 0;
+        for (var entry : divided.entrySet()) {
+            out.println(Notation.toCoordinates(entry.getKey()) + ": " + entry.getValue());
+            nodes += entry.getValue();
+        }
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        long nodesPerSecond = elapsed > 0 ? nodes * TimeUnit.SECONDS.toNanos(1) / elapsed : 0;
+
+        out.println();
+        out.println("Moves: " + divided.size());
+        out.println("Nodes: " + nodes);
+        out.println("Time: " + millis + " ms");
+        out.println("Nodes/second: " + nodesPerSecond);
+
+        return nodes;
+    }
+
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        String fen = args.length > 1 ? String.join(" ", Arrays.copyOfRange(args, 1, args.length)) : Fen.STARTING_POSITION;
+
+        BasicMoveValidator validator = new BasicMoveValidator();
+        MoveGenerator generator = new LegalMoveGenerator();
+
+        PrintStream out = new PrintStream(System.out, true, StandardCharsets.UTF_8);
+        new Perft(generator, validator).run(Fen.parse(fen), depth, out);
+    }
+}
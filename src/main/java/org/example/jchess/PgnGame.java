@@ -0,0 +1,88 @@
+package org.example.jchess;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class PgnGame {
+
+    public static final String WHITE_WINS = "1-0";
+    public static final String BLACK_WINS = "0-1";
+    public static final String DRAW = "1/2-1/2";
+    public static final String UNKNOWN = "*";
+
+    private final Map<String, String> tags;
+    private final List<Move> moves;
+    private final String result;
+
+    public PgnGame(Map<String, String> tags, List<Move> moves, String result) {
+        this.tags = new LinkedHashMap<>(Objects.requireNonNull(tags));
+        this.moves = new ArrayList<>(Objects.requireNonNull(moves));
+        this.result = Objects.requireNonNull(result);
+    }
+
+    public static String resultOf(Report report) {
+        switch (report.getGameState()) {
+            case CHECKMATE:
+                return report.getWinner().map(c -> c == Color.WHITE ? WHITE_WINS : BLACK_WINS).orElse(UNKNOWN);
+            case STALEMATE:
+            case DRAW:
+                return DRAW;
+            default:
+                return UNKNOWN;
+        }
+    }
+
+    public Map<String, String> getTags() {
+        return new LinkedHashMap<>(tags);
+    }
+
+    public Optional<String> getTag(String name) {
+        return Optional.ofNullable(tags.get(name));
+    }
+
+    public List<Move> getMoves() {
+        return new ArrayList<>(moves);
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    // Games set up from a position carry it in the FEN tag
+    public BoardSnapshot getStartingPosition() {
+        return Fen.parse(getTag("FEN").orElse(Fen.STARTING_POSITION));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        PgnGame pgnGame = (PgnGame) o;
+
+        if (!tags.equals(pgnGame.tags)) return false;
+        if (!moves.equals(pgnGame.moves)) return false;
+        return result.equals(pgnGame.result);
+    }
+
+    @Override
+    public int hashCode() {
+        int result1 = tags.hashCode();
+        result1 = 31 * result1 + moves.hashCode();
+        result1 = 31 * result1 + result.hashCode();
+        return result1;
+    }
+
+    @Override
+    public String toString() {
+        return "PgnGame{" +
+                "tags=" + tags +
+                ", moves=" + moves +
+                ", result='" + result + '\'' +
+                '}';
+    }
+}
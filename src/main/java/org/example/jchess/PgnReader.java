@@ -0,0 +1,284 @@
+package org.example.jchess;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Reads one game at a time, so memory use does not depend on the size of the input. Splitting the input
+// into games is sequential and cheap; parsing the moves of a game is the expensive part and runs in
+// parallel when the stream returned by games() is made parallel.
+public final class PgnReader implements Closeable {
+
+    private static final int BATCH_GAMES = 64;
+
+    private final BufferedReader reader;
+
+    // Generators and validators keep per-instance caches, so every parsing thread gets its own
+    private final ThreadLocal<MoveApplier> applier = ThreadLocal.withInitial(BasicMoveValidator::new);
+    private final ThreadLocal<San> san = ThreadLocal.withInitial(() -> new San(new LegalMoveGenerator(), applier.get()));
+
+    private String pendingLine;
+    private boolean streamed;
+
+    public PgnReader(Reader reader) {
+        Objects.requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    // Can only be called once, as the games are consumed from the underlying reader
+    public Stream<PgnGame> games() {
+        if (streamed) {
+            throw new IllegalStateException("Games have already been read");
+        }
+
+        streamed = true;
+        return StreamSupport.stream(new ChunkSpliterator(), false).map(this::parseGame);
+    }
+
+    public PgnGame parseGame(String text) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        StringBuilder movetext = new StringBuilder();
+
+        for (String line : text.split("\n")) {
+            String trimmed = line.trim();
+
+            if (trimmed.startsWith("[") && movetext.length() == 0) {
+                parseTag(trimmed, tags);
+            } else if (!trimmed.startsWith("%")) {
+                movetext.append(trimmed).append('\n');
+            }
+        }
+
+        BoardSnapshot snapshot = Fen.parse(tags.getOrDefault("FEN", Fen.STARTING_POSITION));
+        List<Move> moves = new ArrayList<>();
+        String result = tags.getOrDefault("Result", PgnGame.UNKNOWN);
+        San notation = san.get();
+        MoveApplier moveApplier = applier.get();
+
+        for (String token : tokenize(movetext)) {
+            if (isResult(token)) {
+                result = token;
+                break;
+            }
+
+            Move move = notation.parse(token, snapshot);
+            moves.add(move);
+            snapshot = moveApplier.applyMove(snapshot, move);
+        }
+
+        return new PgnGame(tags, moves, result);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // Returns the raw text of the next game, or null at the end of the input
+    private String readChunk() throws IOException {
+        StringBuilder chunk = new StringBuilder();
+        boolean hasMoves = false;
+        String line;
+
+        while ((line = pendingLine != null ? pendingLine : reader.readLine()) != null) {
+            pendingLine = null;
+            String trimmed = line.trim();
+
+            // A tag after movetext starts the next game
+            if (trimmed.startsWith("[") && hasMoves) {
+                pendingLine = line;
+                break;
+            }
+
+            if (!trimmed.isEmpty() && !trimmed.startsWith("[")) {
+                hasMoves = true;
+            }
+
+            chunk.append(line).append('\n');
+        }
+
+        return chunk.toString().trim().isEmpty() ? null : chunk.toString();
+    }
+
+    private void parseTag(String line, Map<String, String> tags) {
+        int space = line.indexOf(' ');
+        int open = line.indexOf('"');
+        int close = line.lastIndexOf('"');
+
+        if (!line.endsWith("]") || space < 0 || open < 0 || close <= open) {
+            throw new IllegalArgumentException("Invalid tag: " + line);
+        }
+
+        String value = line.substring(open + 1, close).replace("\\\"", "\"").replace("\\\\", "\\");
+        tags.put(line.substring(1, space), value);
+    }
+
+    // Splits movetext into moves and results, dropping move numbers, annotations, comments and variations
+    private List<String> tokenize(CharSequence movetext) {
+        List<String> tokens = new ArrayList<>();
+        int variations = 0;
+        int i = 0;
+
+        while (i < movetext.length()) {
+            char c = movetext.charAt(i);
+
+            if (c == '{') {
+                int end = indexOf(movetext, '}', i);
+                i = end < 0 ? movetext.length() : end + 1;
+            } else if (c == ';') {
+                int end = indexOf(movetext, '\n', i);
+                i = end < 0 ? movetext.length() : end + 1;
+            } else if (c == '(') {
+                variations++;
+                i++;
+            } else if (c == ')') {
+                variations--;
+                i++;
+            } else if (Character.isWhitespace(c)) {
+                i++;
+            } else {
+                int start = i;
+
+                while (i < movetext.length() && !Character.isWhitespace(movetext.charAt(i)) && "{;()".indexOf(movetext.charAt(i)) < 0) {
+                    i++;
+                }
+
+                String token = stripMoveNumber(movetext.subSequence(start, i).toString());
+
+                if (variations == 0 && !token.isEmpty() && token.charAt(0) != '$') {
+                    tokens.add(token);
+                }
+            }
+        }
+
+        return tokens;
+    }
+
+    // Handles "12.", "12..." and "12.e4" alike
+    private String stripMoveNumber(String token) {
+        if (isResult(token)) {
+            return token;
+        }
+
+        int i = 0;
+        while (i < token.length() && Character.isDigit(token.charAt(i))) {
+            i++;
+        }
+
+        if (i == 0) {
+            return token;
+        }
+
+        while (i < token.length() && token.charAt(i) == '.') {
+            i++;
+        }
+
+        return token.substring(i);
+    }
+
+    private boolean isResult(String token) {
+        return token.equals(PgnGame.WHITE_WINS) || token.equals(PgnGame.BLACK_WINS) ||
+                token.equals(PgnGame.DRAW) || token.equals(PgnGame.UNKNOWN);
+    }
+
+    private static int indexOf(CharSequence text, char c, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    // Splits off fixed size batches of raw games, which bounds the memory held by parallel streams
+    private final class ChunkSpliterator implements Spliterator<String> {
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            String chunk = nextChunk();
+
+            if (chunk == null) {
+                return false;
+            }
+
+            action.accept(chunk);
+            return true;
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            String[] batch = new String[BATCH_GAMES];
+            int size = 0;
+
+            while (size < BATCH_GAMES) {
+                String chunk = nextChunk();
+
+                if (chunk == null) {
+                    break;
+                }
+
+                batch[size++] = chunk;
+            }
+
+            return size == 0 ? null : Spliterators.spliterator(Arrays.copyOf(batch, size), ORDERED | NONNULL);
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+
+        private String nextChunk() {
+            try {
+                return readChunk();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: PgnReader <file.pgn> [--parallel]");
+            return;
+        }
+
+        Path path = Paths.get(args[0]);
+        boolean parallel = args.length > 1 && args[1].equals("--parallel");
+
+        try (PgnReader pgnReader = new PgnReader(Files.newBufferedReader(path, StandardCharsets.UTF_8))) {
+            long start = System.nanoTime();
+            Stream<PgnGame> games = pgnReader.games();
+            long[] totals = (parallel ? games.parallel() : games)
+                    .map(game -> new long[]{1, game.getMoves().size()})
+                    .reduce(new long[2], (a, b) -> new long[]{a[0] + b[0], a[1] + b[1]});
+            double seconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+
+            System.out.printf("%d games, %d plies in %.2f s, %.1f games/s%n", totals[0], totals[1], seconds, totals[0] / seconds);
+        }
+    }
+}
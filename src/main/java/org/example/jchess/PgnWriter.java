@@ -0,0 +1,98 @@
+package org.example.jchess;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public final class PgnWriter implements Closeable, Flushable {
+
+    private static final List<String> SEVEN_TAG_ROSTER = List.of("Event", "Site", "Date", "Round", "White", "Black", "Result");
+    private static final int LINE_LENGTH = 80;
+
+    private final Writer writer;
+    private final San san;
+    private final MoveApplier applier;
+
+    public PgnWriter(Writer writer, MoveGenerator generator, MoveApplier applier) {
+        Objects.requireNonNull(writer);
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        this.applier = Objects.requireNonNull(applier);
+        this.san = new San(generator, applier);
+    }
+
+    public void write(PgnGame game) throws IOException {
+        Map<String, String> tags = new LinkedHashMap<>();
+
+        // The roster goes first in its fixed order, unknown values as "?"
+        for (String name : SEVEN_TAG_ROSTER) {
+            tags.put(name, game.getTag(name).orElse("?"));
+        }
+
+        tags.putAll(game.getTags());
+        tags.put("Result", game.getResult());
+
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            writer.write('[' + tag.getKey() + " \"" + escape(tag.getValue()) + "\"]\n");
+        }
+
+        writer.write('\n');
+        writeMovetext(game);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeMovetext(PgnGame game) throws IOException {
+        BoardSnapshot snapshot = game.getStartingPosition();
+        StringBuilder line = new StringBuilder();
+        boolean isFirst = true;
+
+        for (Move move : game.getMoves()) {
+            StringBuilder token = new StringBuilder();
+
+            if (snapshot.getSideToMove() == Color.WHITE) {
+                token.append(snapshot.getFullmoveNumber()).append(". ");
+            } else if (isFirst) {
+                token.append(snapshot.getFullmoveNumber()).append("... ");
+            }
+
+            token.append(san.format(move, snapshot));
+            append(line, token);
+            snapshot = applier.applyMove(snapshot, move);
+            isFirst = false;
+        }
+
+        append(line, game.getResult());
+        writer.write(line.append("\n\n").toString());
+    }
+
+    private void append(StringBuilder line, CharSequence token) throws IOException {
+        if (line.length() > 0 && line.length() + 1 + token.length() > LINE_LENGTH) {
+            writer.write(line.append('\n').toString());
+            line.setLength(0);
+        }
+
+        if (line.length() > 0) {
+            line.append(' ');
+        }
+
+        line.append(token);
+    }
+
+    private String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
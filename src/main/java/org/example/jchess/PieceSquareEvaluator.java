@@ -0,0 +1,11 @@
+package org.example.jchess;
+
+// Reads the score which move appliers carry along with each snapshot, so an evaluation costs no board scan
+public final class PieceSquareEvaluator implements Evaluator {
+
+    @Override
+    public int evaluate(BoardSnapshot boardSnapshot) {
+        int score = boardSnapshot.getEvaluation();
+        return boardSnapshot.getSideToMove() == Color.WHITE ? score : -score;
+    }
+}
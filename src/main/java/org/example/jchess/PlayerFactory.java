@@ -0,0 +1,7 @@
+package org.example.jchess;
+
+public interface PlayerFactory {
+
+    // Called once per game; the board is owned by the created player and never shared with another game
+    Player create(Board board, long seed);
+}
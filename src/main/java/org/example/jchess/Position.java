@@ -4,6 +4,15 @@ import java.util.Objects;
 
 public final class Position {
 
+    private static final int SIZE = 8;
+    private static final Position[] SQUARES = new Position[SIZE * SIZE];
+
+    static {
+        for (int square = 0; square < SQUARES.length; square++) {
+            SQUARES[square] = new Position(square % SIZE, square / SIZE);
+        }
+    }
+
     private final int x;
     private final int y;
 
@@ -12,6 +21,19 @@ public final class Position {
         this.y = y;
     }
 
+    // Squares on the board are shared instances, anything else is allocated as before
+    public static Position of(int x, int y) {
+        if (x < 0 || x >= SIZE || y < 0 || y >= SIZE) {
+            return new Position(x, y);
+        }
+
+        return SQUARES[y * SIZE + x];
+    }
+
+    public static Position of(int square) {
+        return SQUARES[square];
+    }
+
     public int getX() {
         return x;
     }
@@ -0,0 +1,180 @@
+package org.example.jchess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public final class PseudoLegalMoveGenerator implements MoveGenerator {
+
+    private static final Piece[] PROMOTIONS = {Piece.QUEEN, Piece.ROOK, Piece.BISHOP, Piece.KNIGHT};
+
+    private final MoveValidator validator;
+
+    public PseudoLegalMoveGenerator(MoveValidator validator) {
+        this.validator = Objects.requireNonNull(validator);
+    }
+
+    @Override
+    public List<Move> generateValidMoves(BoardSnapshot boardSnapshot) {
+        List<Move> pseudoLegalMoves = generatePseudoLegalMoves(boardSnapshot);
+        List<Move> validMoves = new ArrayList<>(pseudoLegalMoves.size());
+        Color player = boardSnapshot.getSideToMove();
+        SearchPosition position = SearchPosition.of(boardSnapshot);
+
+        for (Move move : pseudoLegalMoves) {
+            if (isCastling(move)) {
+                // The validator checks that the king does not pass through an attacked square
+                if (validator.isValid(boardSnapshot, move)) {
+                    validMoves.add(move);
+                }
+
+                continue;
+            }
+
+            position.makeMove(move);
+
+            if (!position.isInCheck(player)) {
+                validMoves.add(move);
+            }
+
+            position.unmakeMove();
+        }
+
+        return validMoves;
+    }
+
+    public List<Move> generatePseudoLegalMoves(BoardSnapshot boardSnapshot) {
+        Color player = boardSnapshot.getSideToMove();
+        Bitboard board = boardSnapshot.getBitboard();
+        long own = board.getOccupancy(player);
+        long occupied = board.getOccupancy();
+        List<Move> result = new ArrayList<>();
+
+        addPawnMoves(board, player, result);
+
+        for (long knights = board.getPieces(Piece.KNIGHT, player); knights != 0; knights &= knights - 1) {
+            int from = Long.numberOfTrailingZeros(knights);
+            addMoves(from, Attacks.knight(from) & ~own, Piece.KNIGHT, player, result);
+        }
+
+        for (long bishops = board.getPieces(Piece.BISHOP, player); bishops != 0; bishops &= bishops - 1) {
+            int from = Long.numberOfTrailingZeros(bishops);
+            addMoves(from, Attacks.bishop(from, occupied) & ~own, Piece.BISHOP, player, result);
+        }
+
+        for (long rooks = board.getPieces(Piece.ROOK, player); rooks != 0; rooks &= rooks - 1) {
+            int from = Long.numberOfTrailingZeros(rooks);
+            addMoves(from, Attacks.rook(from, occupied) & ~own, Piece.ROOK, player, result);
+        }
+
+        for (long queens = board.getPieces(Piece.QUEEN, player); queens != 0; queens &= queens - 1) {
+            int from = Long.numberOfTrailingZeros(queens);
+            addMoves(from, Attacks.queen(from, occupied) & ~own, Piece.QUEEN, player, result);
+        }
+
+        for (long kings = board.getPieces(Piece.KING, player); kings != 0; kings &= kings - 1) {
+            int from = Long.numberOfTrailingZeros(kings);
+            addMoves(from, Attacks.king(from) & ~own, Piece.KING, player, result);
+            addCastlingMoves(board, boardSnapshot.getCastlingRights(), from, player, result);
+        }
+
+        addEnPassantMoves(boardSnapshot, player, result);
+
+        return result;
+    }
+
+    private void addMoves(int from, long targets, Piece piece, Color player, List<Move> result) {
+        for (; targets != 0; targets &= targets - 1) {
+            result.add(Move.of(from, Long.numberOfTrailingZeros(targets), piece, player));
+        }
+    }
+
+    private void addPawnMoves(Bitboard board, Color player, List<Move> result) {
+        long enemy = board.getOccupancy(opponent(player));
+        int forward = player == Color.WHITE ? -Bitboard.SIZE : Bitboard.SIZE;
+        int startingY = player == Color.WHITE ? 6 : 1;
+
+        for (long pawns = board.getPieces(Piece.PAWN, player); pawns != 0; pawns &= pawns - 1) {
+            int from = Long.numberOfTrailingZeros(pawns);
+            int single = from + forward;
+
+            if (!board.isOccupied(single)) {
+                addPawnMove(from, single, player, result);
+
+                int twice = single + forward;
+                if (Bitboard.getY(from) == startingY && !board.isOccupied(twice)) {
+                    addPawnMove(from, twice, player, result);
+                }
+            }
+
+            for (long captures = Attacks.pawn(player, from) & enemy; captures != 0; captures &= captures - 1) {
+                addPawnMove(from, Long.numberOfTrailingZeros(captures), player, result);
+            }
+        }
+    }
+
+    private void addPawnMove(int from, int to, Color player, List<Move> result) {
+        int destY = Bitboard.getY(to);
+
+        if (destY == 0 || destY == 7) {
+            for (Piece promotion : PROMOTIONS) {
+                result.add(Move.of(from, to, player, promotion));
+            }
+        } else {
+            result.add(Move.of(from, to, Piece.PAWN, player));
+        }
+    }
+
+    private void addCastlingMoves(Bitboard board, int castlingRights, int from, Color player, List<Move> result) {
+        int castlingY = player == Color.WHITE ? 7 : 0;
+        int kingsStartingX = 4;
+
+        if (from != Bitboard.square(kingsStartingX, castlingY)) {
+            return;
+        }
+
+        long rooks = board.getPieces(Piece.ROOK, player);
+        long occupied = board.getOccupancy();
+
+        // Rook on the corner and nothing between it and the king; attacked squares are left to the validator
+        for (int rooksX = 0; rooksX < Bitboard.SIZE; rooksX += 7) {
+            int direction = rooksX > kingsStartingX ? 1 : -1;
+            int side = direction > 0 ? CastlingRights.kingside(player) : CastlingRights.queenside(player);
+            long between = 0;
+
+            if ((castlingRights & side) == 0) {
+                continue;
+            }
+
+            for (int x = kingsStartingX + direction; x != rooksX; x += direction) {
+                between |= Bitboard.bit(Bitboard.square(x, castlingY));
+            }
+
+            if ((rooks & Bitboard.bit(Bitboard.square(rooksX, castlingY))) != 0 && (occupied & between) == 0) {
+                result.add(Move.of(from, from + 2 * direction, Piece.KING, player));
+            }
+        }
+    }
+
+    private void addEnPassantMoves(BoardSnapshot boardSnapshot, Color player, List<Move> result) {
+        int enPassantSquare = boardSnapshot.getEnPassantSquare();
+
+        if (enPassantSquare == Bitboard.NO_SQUARE) {
+            return;
+        }
+
+        // Our pawns that could capture on the square are exactly those an enemy pawn there would attack
+        long pawns = boardSnapshot.getBitboard().getPieces(Piece.PAWN, player) & Attacks.pawn(opponent(player), enPassantSquare);
+        for (; pawns != 0; pawns &= pawns - 1) {
+            result.add(Move.of(Long.numberOfTrailingZeros(pawns), enPassantSquare, Piece.PAWN, player));
+        }
+    }
+
+    private boolean isCastling(Move move) {
+        return move.getPiece() == Piece.KING && Math.abs(move.getTo().getX() - move.getFrom().getX()) == 2;
+    }
+
+    private Color opponent(Color player) {
+        return player == Color.BLACK ? Color.WHITE : Color.BLACK;
+    }
+}
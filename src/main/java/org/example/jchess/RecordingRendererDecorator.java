@@ -0,0 +1,27 @@
+package org.example.jchess;
+
+import java.util.Objects;
+
+// Archives every move of a game as the game loop draws the position after it
+public class RecordingRendererDecorator implements Renderer {
+
+    private final Renderer renderer;
+    private final GameLog log;
+    private final int game;
+
+    public RecordingRendererDecorator(Renderer renderer, GameLog log) {
+        this.renderer = Objects.requireNonNull(renderer);
+        this.log = Objects.requireNonNull(log);
+        this.game = log.newGame();
+    }
+
+    public int getGame() {
+        return game;
+    }
+
+    @Override
+    public void draw(BoardSnapshot snapshot) {
+        snapshot.getLastMove().ifPresent(move -> log.append(game, move));
+        renderer.draw(snapshot);
+    }
+}
@@ -8,11 +8,17 @@ public final class Report {
     private final Color playersTurn;
     private final GameState gameState;
     private final Optional<Color> winner;
+    private final int score;
 
     public Report(Color playersTurn, GameState gameState, Optional<Color> winner) {
+        this(playersTurn, gameState, winner, 0);
+    }
+
+    public Report(Color playersTurn, GameState gameState, Optional<Color> winner, int score) {
         this.playersTurn = Objects.requireNonNull(playersTurn);
         this.gameState = Objects.requireNonNull(gameState);
         this.winner = Objects.requireNonNull(winner);
+        this.score = score;
     }
 
     public Color getPlayersTurn() {
@@ -27,6 +33,11 @@ public final class Report {
         return winner;
     }
 
+    // Centipawns from white's point of view, or a mate score once the game is decided
+    public int getScore() {
+        return score;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -36,6 +47,7 @@ public final class Report {
 
         if (playersTurn != report.playersTurn) return false;
         if (gameState != report.gameState) return false;
+        if (score != report.score) return false;
         return winner.equals(report.winner);
     }
 
@@ -44,6 +56,7 @@ public final class Report {
         int result = playersTurn.hashCode();
         result = 31 * result + gameState.hashCode();
         result = 31 * result + winner.hashCode();
+        result = 31 * result + score;
         return result;
     }
 
@@ -53,6 +66,7 @@ public final class Report {
                 "playersTurn=" + playersTurn +
                 ", gameState=" + gameState +
                 ", winner=" + winner +
+                ", score=" + score +
                 '}';
     }
 }
@@ -0,0 +1,191 @@
+package org.example.jchess;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// Standard algebraic notation, resolved against the legal moves of a position
+public final class San {
+
+    private static final String KINGSIDE = "O-O";
+    private static final String QUEENSIDE = "O-O-O";
+
+    private final MoveGenerator generator;
+    private final MoveApplier applier;
+    private final AttackMapCheckChecker checkChecker = new AttackMapCheckChecker();
+
+    public San(MoveGenerator generator, MoveApplier applier) {
+        this.generator = Objects.requireNonNull(generator);
+        this.applier = Objects.requireNonNull(applier);
+    }
+
+    public Move parse(String san, BoardSnapshot boardSnapshot) {
+        String text = stripSuffixes(Objects.requireNonNull(san));
+        List<Move> moves = generator.generateValidMoves(boardSnapshot);
+
+        if (text.equals(KINGSIDE) || text.equals("0-0")) {
+            return findCastling(moves, 2, san);
+        }
+
+        if (text.equals(QUEENSIDE) || text.equals("0-0-0")) {
+            return findCastling(moves, -2, san);
+        }
+
+        if (text.length() < 2) {
+            throw new IllegalArgumentException("Invalid move: " + san);
+        }
+
+        Piece piece = Piece.PAWN;
+        int start = 0;
+
+        if ("KQRBN".indexOf(text.charAt(0)) >= 0) {
+            piece = Notation.letterToPiece(text.charAt(0));
+            start = 1;
+        }
+
+        Optional<Piece> promotedTo = Optional.empty();
+        int promotion = text.indexOf('=');
+
+        if (promotion >= 0 && promotion == text.length() - 2) {
+            promotedTo = Optional.of(Notation.letterToPiece(text.charAt(promotion + 1)));
+            text = text.substring(0, promotion);
+        } else if (piece == Piece.PAWN && "QRBN".indexOf(text.charAt(text.length() - 1)) >= 0) {
+            promotedTo = Optional.of(Notation.letterToPiece(text.charAt(text.length() - 1)));
+            text = text.substring(0, text.length() - 1);
+        }
+
+        if (text.length() - start < 2) {
+            throw new IllegalArgumentException("Invalid move: " + san);
+        }
+
+        int to = Notation.parseSquare(text.substring(text.length() - 2));
+        int fromX = -1;
+        int fromY = -1;
+
+        for (int i = start; i < text.length() - 2; i++) {
+            char c = text.charAt(i);
+
+            if (c >= 'a' && c <= 'h') {
+                fromX = c - 'a';
+            } else if (c >= '1' && c <= '8') {
+                fromY = Bitboard.SIZE - (c - '0');
+            } else if (c != 'x' && c != ':' && c != '-') {
+                throw new IllegalArgumentException("Invalid move: " + san);
+            }
+        }
+
+        Move found = null;
+
+        for (Move move : moves) {
+            if (move.getPiece() != piece || Bitboard.square(move.getTo()) != to || !move.getPromotedTo().equals(promotedTo) ||
+                    (fromX >= 0 && move.getFrom().getX() != fromX) || (fromY >= 0 && move.getFrom().getY() != fromY)) {
+                continue;
+            }
+
+            if (found != null) {
+                throw new IllegalArgumentException("Ambiguous move: " + san);
+            }
+
+            found = move;
+        }
+
+        if (found == null) {
+            throw new IllegalArgumentException("Illegal move: " + san);
+        }
+
+        return found;
+    }
+
+    public String format(Move move, BoardSnapshot boardSnapshot) {
+        List<Move> moves = generator.generateValidMoves(boardSnapshot);
+
+        if (!moves.contains(move)) {
+            throw new IllegalArgumentException("Illegal move: " + move);
+        }
+
+        StringBuilder san = new StringBuilder();
+        int dx = move.getTo().getX() - move.getFrom().getX();
+
+        if (move.getPiece() == Piece.KING && Math.abs(dx) == 2) {
+            san.append(dx > 0 ? KINGSIDE : QUEENSIDE);
+        } else {
+            boolean isCapture = boardSnapshot.getBitboard().isOccupied(Bitboard.square(move.getTo())) ||
+                    (move.getPiece() == Piece.PAWN && dx != 0);
+
+            if (move.getPiece() == Piece.PAWN) {
+                if (isCapture) {
+                    san.append((char) ('a' + move.getFrom().getX()));
+                }
+            } else {
+                san.append(Character.toUpperCase(Notation.pieceToLetter(move.getPiece())));
+                appendDisambiguation(move, moves, san);
+            }
+
+            if (isCapture) {
+                san.append('x');
+            }
+
+            san.append(Notation.toSquare(move.getTo()));
+            move.getPromotedTo().ifPresent(p -> san.append('=').append(Character.toUpperCase(Notation.pieceToLetter(p))));
+        }
+
+        BoardSnapshot next = applier.applyMove(boardSnapshot, move);
+
+        if (checkChecker.getCheckInfo(next).isInCheck()) {
+            san.append(generator.generateValidMoves(next).isEmpty() ? '#' : '+');
+        }
+
+        return san.toString();
+    }
+
+    // The file is preferred, then the rank, and both only when neither alone is enough
+    private void appendDisambiguation(Move move, List<Move> moves, StringBuilder san) {
+        boolean isAmbiguous = false;
+        boolean sharesFile = false;
+        boolean sharesRank = false;
+
+        for (Move other : moves) {
+            if (other.getPiece() != move.getPiece() || !other.getTo().equals(move.getTo()) || other.getFrom().equals(move.getFrom())) {
+                continue;
+            }
+
+            isAmbiguous = true;
+            sharesFile |= other.getFrom().getX() == move.getFrom().getX();
+            sharesRank |= other.getFrom().getY() == move.getFrom().getY();
+        }
+
+        if (!isAmbiguous) {
+            return;
+        }
+
+        String square = Notation.toSquare(move.getFrom());
+
+        if (!sharesFile) {
+            san.append(square.charAt(0));
+        } else if (!sharesRank) {
+            san.append(square.charAt(1));
+        } else {
+            san.append(square);
+        }
+    }
+
+    private Move findCastling(List<Move> moves, int dx, String san) {
+        for (Move move : moves) {
+            if (move.getPiece() == Piece.KING && move.getTo().getX() - move.getFrom().getX() == dx) {
+                return move;
+            }
+        }
+
+        throw new IllegalArgumentException("Illegal move: " + san);
+    }
+
+    private String stripSuffixes(String san) {
+        int end = san.length();
+
+        while (end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0) {
+            end--;
+        }
+
+        return san.substring(0, end);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.jchess;
+
+public final class SearchLimits {
+
+    public static final int MAX_DEPTH = 64;
+
+    private final int depth;
+    private final long nodes;
+    private final long timeMillis;
+
+    public SearchLimits(int depth, long nodes, long timeMillis) {
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + MAX_DEPTH + ", got " + depth);
+        }
+
+        if (nodes < 1 || timeMillis < 1) {
+            throw new IllegalArgumentException("Node and time budgets must be positive");
+        }
+
+        this.depth = depth;
+        this.nodes = nodes;
+        this.timeMillis = timeMillis;
+    }
+
+    public static SearchLimits depth(int depth) {
+        return new SearchLimits(depth, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public static SearchLimits nodes(long nodes) {
+        return new SearchLimits(MAX_DEPTH, nodes, Long.MAX_VALUE);
+    }
+
+    public static SearchLimits time(long timeMillis) {
+        return new SearchLimits(MAX_DEPTH, Long.MAX_VALUE, timeMillis);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SearchLimits that = (SearchLimits) o;
+
+        if (depth != that.depth) return false;
+        if (nodes != that.nodes) return false;
+        return timeMillis == that.timeMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = depth;
+        result = 31 * result + Long.hashCode(nodes);
+        result = 31 * result + Long.hashCode(timeMillis);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchLimits{" +
+                "depth=" + depth +
+                ", nodes=" + nodes +
+                ", timeMillis=" + timeMillis +
+                '}';
+    }
+}
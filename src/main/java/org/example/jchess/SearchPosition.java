@@ -0,0 +1,265 @@
+package org.example.jchess;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class SearchPosition {
+
+    private static final Piece[] PIECES = Piece.values();
+    private static final Color[] COLORS = Color.values();
+    private static final int NONE = 15;
+
+    private final long[] pieces;
+    private final long[] occupancy = new long[COLORS.length];
+
+    private Color sideToMove;
+    private int castlingRights;
+    private int enPassantSquare;
+    private long key;
+    private int score;
+
+    // Each made move is packed into one long, so making and unmaking never allocates once the stacks are warm
+    private long[] undoStack = new long[16];
+    private long[] keyStack = new long[16];
+    private int ply;
+
+    public SearchPosition(Bitboard board, Color sideToMove) {
+        this(board, sideToMove, CastlingRights.NONE, Bitboard.NO_SQUARE);
+    }
+
+    public SearchPosition(Bitboard board, Color sideToMove, int castlingRights, int enPassantSquare) {
+        this(board, sideToMove, castlingRights, enPassantSquare,
+             Zobrist.compute(board, sideToMove, castlingRights & CastlingRights.ALL, enPassantSquare));
+    }
+
+    private SearchPosition(Bitboard board, Color sideToMove, int castlingRights, int enPassantSquare, long key) {
+        Objects.requireNonNull(board);
+
+        this.pieces = board.toArray();
+        this.sideToMove = Objects.requireNonNull(sideToMove);
+        this.castlingRights = castlingRights & CastlingRights.ALL;
+        this.enPassantSquare = enPassantSquare;
+        this.key = key;
+
+        for (int i = 0; i < pieces.length; i++) {
+            occupancy[i / PIECES.length] |= pieces[i];
+        }
+
+        this.score = PieceSquareTables.compute(board);
+    }
+
+    public static SearchPosition of(BoardSnapshot boardSnapshot) {
+        return new SearchPosition(boardSnapshot.getBitboard(),
+                                  boardSnapshot.getSideToMove(),
+                                  boardSnapshot.getCastlingRights(),
+                                  boardSnapshot.getEnPassantSquare(),
+                                  boardSnapshot.getKey());
+    }
+
+    public void makeMove(Move move) {
+        int from = Bitboard.square(move.getFrom());
+        int to = Bitboard.square(move.getTo());
+        int moved = indexAt(from);
+
+        if (moved == NONE) {
+            throw new IllegalArgumentException("No piece to move at " + move.getFrom());
+        }
+
+        int color = moved / PIECES.length;
+        boolean isPawn = moved % PIECES.length == Piece.PAWN.ordinal();
+        boolean isKing = moved % PIECES.length == Piece.KING.ordinal();
+
+        int capturedSquare = to;
+        int captured = indexAt(to);
+
+        // A pawn moving diagonally onto an empty square can only be capturing en passant
+        if (isPawn && captured == NONE && Bitboard.getX(from) != Bitboard.getX(to)) {
+            capturedSquare = Bitboard.square(Bitboard.getX(to), Bitboard.getY(from));
+            captured = indexAt(capturedSquare);
+        }
+
+        int promoted = move.getPromotedTo()
+                           .map(p -> color * PIECES.length + p.ordinal())
+                           .orElse(NONE);
+
+        push(from, to, moved, captured, capturedSquare, promoted);
+        key ^= stateKey();
+
+        if (captured != NONE) {
+            toggle(captured, capturedSquare);
+        }
+
+        toggle(moved, from);
+        toggle(promoted != NONE ? promoted : moved, to);
+
+        if (isKing && Math.abs(Bitboard.getX(to) - Bitboard.getX(from)) == 2) {
+            toggleCastlingRook(color, from, to);
+        }
+
+        castlingRights = CastlingRights.afterMove(castlingRights, from, to);
+        enPassantSquare = isPawn && Math.abs(to - from) == 2 * Bitboard.SIZE ? (from + to) / 2 : Bitboard.NO_SQUARE;
+        sideToMove = opponent(sideToMove);
+        key ^= stateKey();
+    }
+
+    public void unmakeMove() {
+        if (ply == 0) {
+            throw new IllegalStateException("There is no move to unmake");
+        }
+
+        long record = undoStack[--ply];
+        int from = (int) (record & 63);
+        int to = (int) (record >>> 6 & 63);
+        int moved = (int) (record >>> 12 & 15);
+        int captured = (int) (record >>> 16 & 15);
+        int capturedSquare = (int) (record >>> 20 & 63);
+        int promoted = (int) (record >>> 26 & 15);
+
+        castlingRights = (int) (record >>> 30 & 15);
+        enPassantSquare = (int) (record >>> 34 & 127) - 1;
+        sideToMove = opponent(sideToMove);
+
+        boolean isKing = moved % PIECES.length == Piece.KING.ordinal();
+        if (isKing && Math.abs(Bitboard.getX(to) - Bitboard.getX(from)) == 2) {
+            toggleCastlingRook(moved / PIECES.length, from, to);
+        }
+
+        toggle(promoted != NONE ? promoted : moved, to);
+        toggle(moved, from);
+
+        if (captured != NONE) {
+            toggle(captured, capturedSquare);
+        }
+
+        key = keyStack[ply];
+    }
+
+    public boolean isInCheck(Color defender) {
+        long king = pieces[Bitboard.index(Piece.KING, defender)];
+
+        if (king == 0) {
+            throw new RuntimeException("This code should not be reachable!");
+        }
+
+        return isSquareAttacked(Long.numberOfTrailingZeros(king), opponent(defender));
+    }
+
+    public boolean isSquareAttacked(int square, Color attacker) {
+        long occupied = getOccupancy();
+        long queens = pieces[Bitboard.index(Piece.QUEEN, attacker)];
+
+        return (Attacks.pawn(opponent(attacker), square) & pieces[Bitboard.index(Piece.PAWN, attacker)]) != 0 ||
+                (Attacks.knight(square) & pieces[Bitboard.index(Piece.KNIGHT, attacker)]) != 0 ||
+                (Attacks.king(square) & pieces[Bitboard.index(Piece.KING, attacker)]) != 0 ||
+                (Attacks.bishop(square, occupied) & (pieces[Bitboard.index(Piece.BISHOP, attacker)] | queens)) != 0 ||
+                (Attacks.rook(square, occupied) & (pieces[Bitboard.index(Piece.ROOK, attacker)] | queens)) != 0;
+    }
+
+    public long getPieces(Piece piece, Color color) {
+        return pieces[Bitboard.index(piece, color)];
+    }
+
+    public long getOccupancy(Color color) {
+        return occupancy[color.ordinal()];
+    }
+
+    public long getOccupancy() {
+        return occupancy[Color.WHITE.ordinal()] | occupancy[Color.BLACK.ordinal()];
+    }
+
+    public Color getSideToMove() {
+        return sideToMove;
+    }
+
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    // Packed middlegame and endgame score from white's point of view, see PieceSquareTables
+    public int getScore() {
+        return score;
+    }
+
+    // Tapered centipawns from the point of view of the side to move
+    public int evaluate() {
+        int evaluation = PieceSquareTables.taper(score, PieceSquareTables.phase(pieces));
+        return sideToMove == Color.WHITE ? evaluation : -evaluation;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public Bitboard toBitboard() {
+        return new Bitboard(pieces);
+    }
+
+    private void push(int from, int to, int moved, int captured, int capturedSquare, int promoted) {
+        if (ply == undoStack.length) {
+            undoStack = Arrays.copyOf(undoStack, ply * 2);
+            keyStack = Arrays.copyOf(keyStack, ply * 2);
+        }
+
+        keyStack[ply] = key;
+        undoStack[ply++] = from |
+                (long) to << 6 |
+                (long) moved << 12 |
+                (long) captured << 16 |
+                (long) capturedSquare << 20 |
+                (long) promoted << 26 |
+                (long) castlingRights << 30 |
+                (long) (enPassantSquare + 1) << 34;
+    }
+
+    private void toggleCastlingRook(int color, int kingFrom, int kingTo) {
+        int y = Bitboard.getY(kingFrom);
+        int direction = kingTo > kingFrom ? 1 : -1;
+        int rook = color * PIECES.length + Piece.ROOK.ordinal();
+
+        toggle(rook, Bitboard.square(direction > 0 ? 7 : 0, y));
+        toggle(rook, Bitboard.square(Bitboard.getX(kingFrom) + direction, y));
+    }
+
+    private void toggle(int index, int square) {
+        long mask = Bitboard.bit(square);
+        pieces[index] ^= mask;
+        occupancy[index / PIECES.length] ^= mask;
+        key ^= Zobrist.piece(index, square);
+        // Toggling is its own inverse, so unmaking a move restores the score without a stack
+        score += (pieces[index] & mask) != 0 ? PieceSquareTables.piece(index, square) : -PieceSquareTables.piece(index, square);
+    }
+
+    private long stateKey() {
+        return Zobrist.sideToMove(sideToMove) ^
+                Zobrist.castling(castlingRights) ^
+                Zobrist.enPassant(getPieces(Piece.PAWN, sideToMove), sideToMove, enPassantSquare);
+    }
+
+    private int indexAt(int square) {
+        long mask = Bitboard.bit(square);
+
+        if ((getOccupancy() & mask) == 0) {
+            return NONE;
+        }
+
+        for (int i = 0; i < pieces.length; i++) {
+            if ((pieces[i] & mask) != 0) {
+                return i;
+            }
+        }
+
+        return NONE;
+    }
+
+    private static Color opponent(Color player) {
+        return player == Color.BLACK ? Color.WHITE : Color.BLACK;
+    }
+}
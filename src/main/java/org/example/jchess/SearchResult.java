@@ -0,0 +1,86 @@
+package org.example.jchess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class SearchResult {
+
+    private final List<Move> principalVariation;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long timeMillis;
+
+    public SearchResult(List<Move> principalVariation, int score, int depth, long nodes, long timeMillis) {
+        this.principalVariation = List.copyOf(Objects.requireNonNull(principalVariation));
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.timeMillis = timeMillis;
+    }
+
+    public Optional<Move> getBestMove() {
+        return principalVariation.isEmpty() ? Optional.empty() : Optional.of(principalVariation.get(0));
+    }
+
+    public List<Move> getPrincipalVariation() {
+        return new ArrayList<>(principalVariation);
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public long getNodesPerSecond() {
+        return timeMillis > 0 ? nodes * 1000 / timeMillis : nodes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SearchResult that = (SearchResult) o;
+
+        if (score != that.score) return false;
+        if (depth != that.depth) return false;
+        if (nodes != that.nodes) return false;
+        if (timeMillis != that.timeMillis) return false;
+        return principalVariation.equals(that.principalVariation);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = principalVariation.hashCode();
+        result = 31 * result + score;
+        result = 31 * result + depth;
+        result = 31 * result + Long.hashCode(nodes);
+        result = 31 * result + Long.hashCode(timeMillis);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchResult{" +
+                "principalVariation=" + principalVariation +
+                ", score=" + score +
+                ", depth=" + depth +
+                ", nodes=" + nodes +
+                ", timeMillis=" + timeMillis +
+                '}';
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.jchess;
+
+import java.util.function.Consumer;
+
+public interface Searcher {
+
+    int MATE = 100_000;
+    int MAX_PLY = 128;
+
+    default SearchResult search(BoardSnapshot boardSnapshot, SearchLimits limits) {
+        return search(boardSnapshot, limits, result -> { });
+    }
+
+    SearchResult search(BoardSnapshot boardSnapshot, SearchLimits limits, Consumer<SearchResult> onIteration);
+    void stop();
+}
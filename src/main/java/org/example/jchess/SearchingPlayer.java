@@ -0,0 +1,39 @@
+package org.example.jchess;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class SearchingPlayer implements Player {
+
+    private final Board board;
+    private final Searcher searcher;
+    private final SearchLimits limits;
+
+    private SearchResult lastResult;
+
+    public SearchingPlayer(Board board, Searcher searcher, SearchLimits limits) {
+        this.board = Objects.requireNonNull(board);
+        this.searcher = Objects.requireNonNull(searcher);
+        this.limits = Objects.requireNonNull(limits);
+    }
+
+    @Override
+    public Move obtainNextMove() {
+        lastResult = searcher.search(board.getSnapshot(), limits);
+
+        Move move = lastResult.getBestMove()
+                              .orElseThrow(() -> new IllegalStateException("There is no move to make"));
+        board.applyMove(move);
+
+        return move;
+    }
+
+    @Override
+    public void registerMove(Move move) {
+        board.applyMove(move);
+    }
+
+    public Optional<SearchResult> getLastResult() {
+        return Optional.ofNullable(lastResult);
+    }
+}
@@ -1,28 +1,68 @@
 package org.example.jchess;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Objects;
 
-public class StreamPlayerProxy implements Player {
+public class StreamPlayerProxy implements Player, Flushable {
 
-    private Board board;
-    private InputStream input;
-    private OutputStream output;
-    private MoveSerializer serializer;
+    private final Board board;
+    private final MoveSerializer serializer;
 
+    private final InputStream input;
+    private final OutputStream output;
+
+    // Only used in framed mode, where a single pair of streams carries the whole game
+    private final DataInputStream frameInput;
+    private final DataOutputStream frameOutput;
+    private final boolean coalesceWrites;
+
+    // Unframed mode: each move is the whole content of a stream, so every move needs a new connection
     public StreamPlayerProxy(Board board, InputStream input, OutputStream output, MoveSerializer serializer) {
         this.board = Objects.requireNonNull(board);
         this.input = Objects.requireNonNull(input);
         this.output = Objects.requireNonNull(output);
         this.serializer = Objects.requireNonNull(serializer);
+        this.frameInput = null;
+        this.frameOutput = null;
+        this.coalesceWrites = false;
+    }
+
+    private StreamPlayerProxy(Board board, InputStream input, OutputStream output, MoveSerializer serializer, boolean coalesceWrites) {
+        this.board = Objects.requireNonNull(board);
+        this.input = Objects.requireNonNull(input);
+        this.output = Objects.requireNonNull(output);
+        this.serializer = Objects.requireNonNull(serializer);
+        this.frameInput = new DataInputStream(new BufferedInputStream(input));
+        this.frameOutput = new DataOutputStream(new BufferedOutputStream(output));
+        this.coalesceWrites = coalesceWrites;
+    }
+
+    // Moves are exchanged as MoveFrames over long-lived streams. With coalesced writes, outgoing moves
+    // stay buffered until we wait for the opponent's reply or flush() is called
+    public static StreamPlayerProxy framed(Board board, InputStream input, OutputStream output, MoveSerializer serializer, boolean coalesceWrites) {
+        return new StreamPlayerProxy(board, input, output, serializer, coalesceWrites);
     }
 
     @Override
     public Move obtainNextMove() {
         try {
-            byte[] bytes = input.readAllBytes();
+            byte[] bytes;
+
+            if (frameInput == null) {
+                bytes = input.readAllBytes();
+            } else {
+                // The opponent cannot answer a move it has not received yet
+                frameOutput.flush();
+                bytes = MoveFrames.read(frameInput);
+            }
+
             Move move = serializer.deserialize(bytes);
             board.applyMove(move);
             return move;
@@ -35,12 +75,30 @@ public class StreamPlayerProxy implements Player {
     public void registerMove(Move move) {
         try {
             byte[] bytes = serializer.serialize(move);
-            output.write(bytes);
-            output.flush();
+
+            if (frameOutput == null) {
+                output.write(bytes);
+                output.flush();
+            } else {
+                MoveFrames.write(frameOutput, bytes);
+
+                if (!coalesceWrites) {
+                    frameOutput.flush();
+                }
+            }
+
             board.applyMove(move);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+    }
 
+    @Override
+    public void flush() throws IOException {
+        if (frameOutput == null) {
+            output.flush();
+        } else {
+            frameOutput.flush();
+        }
     }
 }
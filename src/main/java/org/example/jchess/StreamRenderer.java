@@ -7,42 +7,47 @@ import java.util.Objects;
 
 public final class StreamRenderer implements Renderer {
 
+    private static final int FRAME_CHARS = 8 * (8 * 4 + 2) + 3;
+
     private final PrintStream printStream;
+
     public StreamRenderer(OutputStream outputStream) {
         Objects.requireNonNull(outputStream);
         this.printStream = new PrintStream(outputStream, false, StandardCharsets.UTF_8);
     }
 
+    // Each frame is assembled first and written at once, so a frame is never interleaved with other output
     @Override
     public void draw(BoardSnapshot snapshot) {
-
+        StringBuilder frame = new StringBuilder(FRAME_CHARS);
         var tiles = snapshot.getTiles();
 
         for (int row = 0; row < 8; row++) {
-            printStream.print("|");
+            frame.append('|');
 
             for (int col = 0; col < 8; col++) {
                 tiles.get(row).get(col)
-                     .ifPresentOrElse(t -> drawTile(t),
-                                      ()-> drawEmptyTile());
+                     .ifPresentOrElse(t -> drawTile(frame, t),
+                                      () -> drawEmptyTile(frame));
 
-                printStream.print("|");
+                frame.append('|');
             }
 
-            printStream.print("\n");
+            frame.append('\n');
         }
 
-        printStream.print("\n\n\n");
+        frame.append("\n\n\n");
+
+        printStream.print(frame);
+        printStream.flush();
     }
 
-    private void drawTile(OccupiedTile tile) {
-        String c = colorToString(tile.getPlayerColor());
-        String p = pieceToString(tile.getPiece());
-        System.out.print(c + p);
+    private void drawTile(StringBuilder frame, OccupiedTile tile) {
+        frame.append(colorToString(tile.getPlayerColor())).append(pieceToString(tile.getPiece()));
     }
 
-    private void drawEmptyTile() {
-        System.out.print("   ");
+    private void drawEmptyTile(StringBuilder frame) {
+        frame.append("   ");
     }
 
     private String colorToString(Color color) {
@@ -0,0 +1,223 @@
+package org.example.jchess;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Probes endgame tables written by TablebaseGenerator. A table covers one material signature such as "KQvK",
+// with the white pieces left of the 'v'. It holds one byte per index: the side to move in the top bit, then
+// six bits per piece in signature order. Positions where the stronger side is black are mirrored onto the
+// table for the colour-swapped signature. Positions with castling rights or an en-passant square are not covered.
+public final class Tablebase {
+
+    public static final int MAX_PIECES = 4;
+
+    static final int MAGIC = 0x4A435442;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final String SUFFIX = ".tb";
+
+    // Table values: 0 is a draw, 1 to 127 a win and LOSS + n a loss, both in that many plies
+    static final int DRAW = 0;
+    static final int LOSS = 128;
+    static final int MAX_PLIES = 125;
+    static final int INVALID = 255;
+
+    private static final String PIECE_ORDER = "KQRBNP";
+    private static final Piece[] PIECES = Piece.values();
+
+    private final Map<String, ByteBuffer> tables = new HashMap<>();
+
+    public Tablebase(Path directory) throws IOException {
+        List<Path> files;
+        Stream<Path> listing = Files.list(directory);
+
+        try {
+            files = listing.filter(p -> p.toFile().getName().endsWith(SUFFIX)).collect(Collectors.toList());
+        } finally {
+            listing.close();
+        }
+
+        for (Path file : files) {
+            String name = file.toFile().getName();
+            String material = name.substring(0, name.length() - SUFFIX.length());
+            tables.put(material, map(file, material));
+        }
+    }
+
+    public Set<String> getMaterials() {
+        return new TreeSet<>(tables.keySet());
+    }
+
+    public Optional<TablebaseResult> probe(BoardSnapshot boardSnapshot) {
+        Bitboard board = boardSnapshot.getBitboard();
+
+        if (boardSnapshot.getCastlingRights() != 0 || boardSnapshot.getEnPassantSquare() != Bitboard.NO_SQUARE ||
+                Long.bitCount(board.getOccupancy()) > MAX_PIECES) {
+            return Optional.empty();
+        }
+
+        long[] boards = new long[PIECES.length * 2];
+
+        for (Color color : Color.values()) {
+            for (Piece piece : PIECES) {
+                boards[Bitboard.index(piece, color)] = board.getPieces(piece, color);
+            }
+        }
+
+        String material = material(boards);
+
+        if (material == null) {
+            return Optional.empty();
+        }
+
+        boolean mirrored = !isCanonical(material);
+        ByteBuffer table = tables.get(mirrored ? mirror(material) : material);
+
+        if (table == null) {
+            return Optional.empty();
+        }
+
+        int value = table.get(index(boards, boardSnapshot.getSideToMove(), mirrored ? mirror(material) : material, mirrored)) & 0xFF;
+        return value == INVALID ? Optional.empty() : Optional.of(decode(value));
+    }
+
+    static TablebaseResult decode(int value) {
+        if (value == DRAW) {
+            return new TablebaseResult(TablebaseResult.Outcome.DRAW, 0);
+        }
+
+        if (value < LOSS) {
+            return new TablebaseResult(TablebaseResult.Outcome.WIN, value);
+        }
+
+        return new TablebaseResult(TablebaseResult.Outcome.LOSS, value - LOSS);
+    }
+
+    // The signature of the pieces on the board, or null without exactly one king per side
+    static String material(long[] boards) {
+        StringBuilder material = new StringBuilder();
+
+        for (Color color : Color.values()) {
+            if (Long.bitCount(boards[Bitboard.index(Piece.KING, color)]) != 1) {
+                return null;
+            }
+
+            if (color == Color.BLACK) {
+                material.append('v');
+            }
+
+            for (int i = 0; i < PIECE_ORDER.length(); i++) {
+                char letter = PIECE_ORDER.charAt(i);
+                int count = Long.bitCount(boards[Bitboard.index(Notation.letterToPiece(letter), color)]);
+
+                for (int c = 0; c < count; c++) {
+                    material.append(letter);
+                }
+            }
+        }
+
+        return material.toString();
+    }
+
+    // Tables are stored for the side with more material as white
+    static boolean isCanonical(String material) {
+        String white = material.substring(0, material.indexOf('v'));
+        String black = material.substring(material.indexOf('v') + 1);
+        int difference = value(white) - value(black);
+
+        return difference != 0 ? difference > 0 : white.compareTo(black) <= 0;
+    }
+
+    static String mirror(String material) {
+        int v = material.indexOf('v');
+        return material.substring(v + 1) + 'v' + material.substring(0, v);
+    }
+
+    static String canonical(String material) {
+        return isCanonical(material) ? material : mirror(material);
+    }
+
+    // With mirrored set, the boards hold the colour-swapped position of the canonical material
+    static int index(long[] boards, Color sideToMove, String material, boolean mirrored) {
+        int index = (mirrored ? opponent(sideToMove) : sideToMove).ordinal();
+        Color color = Color.WHITE;
+        int group = -1;
+        long remaining = 0;
+
+        for (int i = 0; i < material.length(); i++) {
+            char letter = material.charAt(i);
+
+            if (letter == 'v') {
+                color = Color.BLACK;
+                continue;
+            }
+
+            // Pieces of the same kind are consecutive and take their squares in ascending order
+            int board = Bitboard.index(Notation.letterToPiece(letter), mirrored ? opponent(color) : color);
+
+            if (board != group) {
+                group = board;
+                remaining = boards[board];
+            }
+
+            int square = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            index = index << 6 | (mirrored ? square ^ 56 : square);
+        }
+
+        return index;
+    }
+
+    static Color opponent(Color color) {
+        return color == Color.WHITE ? Color.BLACK : Color.WHITE;
+    }
+
+    private static int value(String pieces) {
+        int value = 0;
+
+        for (int i = 0; i < pieces.length(); i++) {
+            value += MaterialEvaluator.valueOf(Notation.letterToPiece(pieces.charAt(i)));
+        }
+
+        return value;
+    }
+
+    private static ByteBuffer map(Path file, String material) throws IOException {
+        int pieces = material.length() - 1;
+
+        if (pieces < 2 || pieces > MAX_PIECES) {
+            throw new IllegalArgumentException("Unsupported material: " + material);
+        }
+
+        MappedByteBuffer mapped;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (mapped.capacity() != HEADER_BYTES + (2 << 6 * pieces) || mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a tablebase for " + material + ": " + file);
+        }
+
+        return mapped.position(HEADER_BYTES).slice();
+    }
+
+    static Piece[] pieces(String material) {
+        Objects.requireNonNull(material);
+        return material.replace("v", "").chars().mapToObj(c -> Notation.letterToPiece((char) c)).toArray(Piece[]::new);
+    }
+}
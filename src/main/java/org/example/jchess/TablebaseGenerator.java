@@ -0,0 +1,584 @@
+package org.example.jchess;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+// Solves every position of a material signature by iterating from the mates outwards: a position is won in n plies
+// once some move reaches a position lost in n - 1, and lost once every move reaches a won position. Captures and
+// promotions leave the table, so their results are looked up in the smaller tables, which are generated first.
+// Positions are never reduced by symmetry, and en passant is ignored, which only matters with a pawn on each side.
+public final class TablebaseGenerator implements AutoCloseable {
+
+    private static final int UNKNOWN = 254;
+    private static final int NO_EXTERNAL = 254;
+    private static final int CHUNK = 1 << 12;
+    private static final Piece[] PROMOTIONS = {Piece.QUEEN, Piece.ROOK, Piece.BISHOP, Piece.KNIGHT};
+
+    private final Path directory;
+    private final ForkJoinPool pool;
+    private final Map<String, byte[]> tables = new HashMap<>();
+
+    public TablebaseGenerator(Path directory, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required, got " + threads);
+        }
+
+        this.directory = Objects.requireNonNull(directory);
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    // Generates the table for the material and every table it depends on, reusing those already on disk
+    public synchronized void generate(String material) {
+        load(Tablebase.canonical(validate(material)));
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private byte[] load(String material) {
+        byte[] table = tables.get(material);
+
+        if (table != null) {
+            return table;
+        }
+
+        for (String dependency : dependencies(material)) {
+            load(dependency);
+        }
+
+        Path file = directory.resolve(material + Tablebase.SUFFIX);
+
+        try {
+            if (Files.exists(file)) {
+                table = read(file, material);
+            } else {
+                table = new Solver(material).solve();
+                write(file, table);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        tables.put(material, table);
+        return table;
+    }
+
+    private static String validate(String material) {
+        Objects.requireNonNull(material);
+
+        if (!material.matches("K[QRBNP]*vK[QRBNP]*") || material.length() - 1 > Tablebase.MAX_PIECES) {
+            throw new IllegalArgumentException("Unsupported material: " + material);
+        }
+
+        return material;
+    }
+
+    // Every table reachable by one capture, one promotion, or a capture which promotes
+    private static Set<String> dependencies(String material) {
+        Set<String> result = new LinkedHashSet<>();
+        int v = material.indexOf('v');
+
+        for (int i = 0; i < material.length(); i++) {
+            char letter = material.charAt(i);
+
+            if (letter == 'K' || letter == 'v') {
+                continue;
+            }
+
+            if (letter == 'P') {
+                addPromotions(material, i, result);
+            }
+
+            String captured = material.substring(0, i) + material.substring(i + 1);
+            int capturedV = captured.indexOf('v');
+            result.add(Tablebase.canonical(normalize(captured)));
+
+            // Only a pawn of the capturing side can promote with the capture
+            for (int j = 0; j < captured.length(); j++) {
+                if (captured.charAt(j) == 'P' && (j < capturedV) != (i < v)) {
+                    addPromotions(captured, j, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static void addPromotions(String material, int pawn, Set<String> result) {
+        for (Piece promotion : PROMOTIONS) {
+            String promoted = material.substring(0, pawn) + Character.toUpperCase(Notation.pieceToLetter(promotion)) + material.substring(pawn + 1);
+            result.add(Tablebase.canonical(normalize(promoted)));
+        }
+    }
+
+    // Sorts the pieces of each side into signature order
+    private static String normalize(String material) {
+        int v = material.indexOf('v');
+        return sort(material.substring(0, v)) + 'v' + sort(material.substring(v + 1));
+    }
+
+    private static String sort(String pieces) {
+        StringBuilder result = new StringBuilder();
+
+        for (char letter : "KQRBNP".toCharArray()) {
+            for (int i = 0; i < pieces.length(); i++) {
+                if (pieces.charAt(i) == letter) {
+                    result.append(letter);
+                }
+            }
+        }
+
+        return result.toString();
+    }
+
+    private static byte[] read(Path file, String material) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+
+        if (content.length != Tablebase.HEADER_BYTES + size(material.length() - 1) ||
+                buffer.getInt() != Tablebase.MAGIC || buffer.getInt() != Tablebase.VERSION) {
+            throw new IllegalArgumentException("Not a tablebase for " + material + ": " + file);
+        }
+
+        return Arrays.copyOfRange(content, Tablebase.HEADER_BYTES, content.length);
+    }
+
+    private static void write(Path file, byte[] table) throws IOException {
+        ByteBuffer content = ByteBuffer.allocate(Tablebase.HEADER_BYTES + table.length);
+        content.putInt(Tablebase.MAGIC).putInt(Tablebase.VERSION).put(table);
+
+        // Written under a temporary name so that a crash never leaves a truncated table behind
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temporary, content.array());
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int size(int pieces) {
+        return 2 << 6 * pieces;
+    }
+
+    // Values from the point of view of the side to move, ordered so that a larger rank is better for it
+    private static int rank(int value) {
+        if (value == Tablebase.DRAW) {
+            return 0;
+        }
+
+        return value < Tablebase.LOSS ? 1000 - value : -1000 + (value - Tablebase.LOSS);
+    }
+
+    // The value for the side which moved into a position of the given value
+    private static int negate(int value) {
+        if (value == Tablebase.DRAW) {
+            return Tablebase.DRAW;
+        }
+
+        int plies = (value < Tablebase.LOSS ? value : value - Tablebase.LOSS) + 1;
+
+        if (plies > Tablebase.MAX_PLIES) {
+            throw new IllegalStateException("Distance to mate does not fit a table: " + plies);
+        }
+
+        return value < Tablebase.LOSS ? Tablebase.LOSS + plies : plies;
+    }
+
+    private final class Solver {
+
+        private final String material;
+        private final Piece[] pieces;
+        private final Color[] colors;
+        private final int slots;
+        private final int size;
+
+        private final byte[] values;
+        // The best result reachable through captures and promotions, or NO_EXTERNAL
+        private final byte[] external;
+
+        Solver(String material) {
+            this.material = material;
+            this.pieces = Tablebase.pieces(material);
+            this.slots = pieces.length;
+            this.size = size(slots);
+            this.colors = new Color[slots];
+
+            int v = material.indexOf('v');
+            for (int i = 0; i < slots; i++) {
+                colors[i] = i < v ? Color.WHITE : Color.BLACK;
+            }
+
+            this.values = new byte[size];
+            this.external = new byte[size];
+        }
+
+        byte[] solve() {
+            forEach(this::classify);
+            forEach(this::initialize);
+
+            int horizon = 0;
+            for (int i = 0; i < size; i++) {
+                horizon = Math.max(horizon, distance(values[i] & 0xFF));
+                horizon = Math.max(horizon, distance(external[i] & 0xFF));
+            }
+
+            AtomicBoolean changed = new AtomicBoolean(true);
+            AtomicInteger longest = new AtomicInteger(horizon);
+
+            for (int n = 1; changed.get() || n <= longest.get() + 1; n++) {
+                int plies = n;
+
+                if (plies > Tablebase.MAX_PLIES) {
+                    throw new IllegalStateException("Distance to mate does not fit a table: " + material);
+                }
+
+                changed.set(false);
+                forEach((index, boards) -> {
+                    if ((values[index] & 0xFF) == UNKNOWN) {
+                        int value = iterate(index, boards, plies);
+
+                        if (value != UNKNOWN) {
+                            values[index] = (byte) value;
+                            changed.set(true);
+                            longest.accumulateAndGet(distance(value), Math::max);
+                        }
+                    }
+                });
+            }
+
+            for (int i = 0; i < size; i++) {
+                if ((values[i] & 0xFF) == UNKNOWN) {
+                    values[i] = (byte) Tablebase.DRAW;
+                }
+            }
+
+            return values;
+        }
+
+        private int distance(int value) {
+            if (value == Tablebase.DRAW || value >= UNKNOWN) {
+                return 0;
+            }
+
+            return value < Tablebase.LOSS ? value : value - Tablebase.LOSS;
+        }
+
+        // Marks positions which can not arise: two pieces on a square, pawns on the last ranks, or the side which just
+        // moved left in check
+        private void classify(int index, long[] boards) {
+            if (!decode(index, boards)) {
+                values[index] = (byte) Tablebase.INVALID;
+                return;
+            }
+
+            Color sideToMove = sideToMove(index);
+            Color opponent = Tablebase.opponent(sideToMove);
+            int king = Long.numberOfTrailingZeros(boards[Bitboard.index(Piece.KING, opponent)]);
+
+            values[index] = (byte) (isAttacked(boards, king, sideToMove) ? Tablebase.INVALID : UNKNOWN);
+        }
+
+        // Resolves the positions without moves inside the table and records the outcome of leaving it
+        private void initialize(int index, long[] boards) {
+            if ((values[index] & 0xFF) == Tablebase.INVALID) {
+                return;
+            }
+
+            decode(index, boards);
+
+            int[] result = {NO_EXTERNAL, 0};
+            Color sideToMove = sideToMove(index);
+
+            forEachMove(index, boards, (successor, value) -> {
+                if (successor >= 0) {
+                    result[1]++;
+                } else if (result[0] == NO_EXTERNAL || rank(value) > rank(result[0])) {
+                    result[0] = value;
+                }
+            });
+
+            external[index] = (byte) result[0];
+
+            if (result[1] == 0) {
+                if (result[0] != NO_EXTERNAL) {
+                    values[index] = (byte) result[0];
+                } else {
+                    int king = Long.numberOfTrailingZeros(boards[Bitboard.index(Piece.KING, sideToMove)]);
+                    values[index] = (byte) (isAttacked(boards, king, Tablebase.opponent(sideToMove)) ? Tablebase.LOSS : Tablebase.DRAW);
+                }
+            }
+        }
+
+        private int iterate(int index, long[] boards, int plies) {
+            decode(index, boards);
+
+            int ext = external[index] & 0xFF;
+            if (ext == plies) {
+                return plies;
+            }
+
+            int[] result = {1, 0, 0};
+
+            forEachMove(index, boards, (successor, value) -> {
+                if (successor < 0) {
+                    return;
+                }
+
+                int v = values[successor] & 0xFF;
+
+                if (v == Tablebase.LOSS + plies - 1) {
+                    result[2] = 1;
+                } else if (v == Tablebase.DRAW || v >= Tablebase.LOSS) {
+                    result[0] = 0;
+                } else {
+                    result[1] = Math.max(result[1], v);
+                }
+            });
+
+            if (result[2] == 1) {
+                return plies;
+            }
+
+            // Every move inside the table loses, so the result depends on the best way out of it
+            if (result[0] == 1 && (ext == NO_EXTERNAL || ext > Tablebase.LOSS)) {
+                int lost = Math.max(result[1] + 1, ext == NO_EXTERNAL ? 0 : ext - Tablebase.LOSS);
+                return Tablebase.LOSS + lost;
+            }
+
+            return UNKNOWN;
+        }
+
+        // Calls the consumer with the successor index of each legal move inside the table, or with -1 and the value
+        // for the moving side of each legal capture or promotion
+        private void forEachMove(int index, long[] boards, MoveConsumer consumer) {
+            Color sideToMove = sideToMove(index);
+            Color opponent = Tablebase.opponent(sideToMove);
+            long own = occupancy(boards, sideToMove);
+            long enemy = occupancy(boards, opponent);
+            long occupied = own | enemy;
+
+            for (int slot = 0; slot < slots; slot++) {
+                if (colors[slot] != sideToMove) {
+                    continue;
+                }
+
+                int from = square(index, slot);
+                Piece piece = pieces[slot];
+                long targets;
+
+                switch (piece) {
+                    case BISHOP:
+                        targets = Attacks.bishop(from, occupied);
+                        break;
+                    case KING:
+                        targets = Attacks.king(from);
+                        break;
+                    case KNIGHT:
+                        targets = Attacks.knight(from);
+                        break;
+                    case PAWN:
+                        targets = pawnTargets(sideToMove, from, occupied, enemy);
+                        break;
+                    case QUEEN:
+                        targets = Attacks.queen(from, occupied);
+                        break;
+                    case ROOK:
+                        targets = Attacks.rook(from, occupied);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unexpected value: " + piece);
+                }
+
+                for (targets &= ~own; targets != 0; targets &= targets - 1) {
+                    int to = Long.numberOfTrailingZeros(targets);
+                    boolean promotes = piece == Piece.PAWN && (Bitboard.getY(to) == 0 || Bitboard.getY(to) == Bitboard.SIZE - 1);
+
+                    if ((enemy & Bitboard.bit(to)) == 0 && !promotes) {
+                        int successor = (index ^ 1 << 6 * slots) & ~(63 << shift(slot)) | to << shift(slot);
+
+                        if ((values[successor] & 0xFF) != Tablebase.INVALID) {
+                            consumer.accept(successor, 0);
+                        }
+
+                        continue;
+                    }
+
+                    if (promotes) {
+                        for (Piece promotion : PROMOTIONS) {
+                            leave(boards, sideToMove, piece, from, to, promotion, consumer);
+                        }
+                    } else {
+                        leave(boards, sideToMove, piece, from, to, piece, consumer);
+                    }
+                }
+            }
+        }
+
+        private void leave(long[] boards, Color sideToMove, Piece piece, int from, int to, Piece placed, MoveConsumer consumer) {
+            long[] next = boards.clone();
+            Color opponent = Tablebase.opponent(sideToMove);
+
+            for (Piece p : Piece.values()) {
+                next[Bitboard.index(p, opponent)] &= ~Bitboard.bit(to);
+            }
+
+            next[Bitboard.index(piece, sideToMove)] &= ~Bitboard.bit(from);
+            next[Bitboard.index(placed, sideToMove)] |= Bitboard.bit(to);
+
+            int king = Long.numberOfTrailingZeros(next[Bitboard.index(Piece.KING, sideToMove)]);
+            if (isAttacked(next, king, opponent)) {
+                return;
+            }
+
+            String target = Tablebase.material(next);
+            boolean mirrored = !Tablebase.isCanonical(target);
+            String canonical = mirrored ? Tablebase.mirror(target) : target;
+            byte[] table = tables.get(canonical);
+
+            if (table == null) {
+                throw new IllegalStateException("Missing table " + canonical + " for " + material);
+            }
+
+            consumer.accept(-1, negate(table[Tablebase.index(next, opponent, canonical, mirrored)] & 0xFF));
+        }
+
+        private long pawnTargets(Color color, int from, long occupied, long enemy) {
+            int forward = color == Color.WHITE ? -Bitboard.SIZE : Bitboard.SIZE;
+            int startY = color == Color.WHITE ? Bitboard.SIZE - 2 : 1;
+            long targets = Attacks.pawn(color, from) & enemy;
+            int single = from + forward;
+
+            if ((occupied & Bitboard.bit(single)) == 0) {
+                targets |= Bitboard.bit(single);
+
+                if (Bitboard.getY(from) == startY && (occupied & Bitboard.bit(single + forward)) == 0) {
+                    targets |= Bitboard.bit(single + forward);
+                }
+            }
+
+            return targets;
+        }
+
+        private boolean isAttacked(long[] boards, int square, Color attacker) {
+            long occupied = occupancy(boards, Color.WHITE) | occupancy(boards, Color.BLACK);
+            long queens = boards[Bitboard.index(Piece.QUEEN, attacker)];
+
+            return (Attacks.knight(square) & boards[Bitboard.index(Piece.KNIGHT, attacker)]) != 0 ||
+                    (Attacks.king(square) & boards[Bitboard.index(Piece.KING, attacker)]) != 0 ||
+                    (Attacks.pawn(Tablebase.opponent(attacker), square) & boards[Bitboard.index(Piece.PAWN, attacker)]) != 0 ||
+                    (Attacks.rook(square, occupied) & (boards[Bitboard.index(Piece.ROOK, attacker)] | queens)) != 0 ||
+                    (Attacks.bishop(square, occupied) & (boards[Bitboard.index(Piece.BISHOP, attacker)] | queens)) != 0;
+        }
+
+        private long occupancy(long[] boards, Color color) {
+            long result = 0;
+
+            for (Piece piece : Piece.values()) {
+                result |= boards[Bitboard.index(piece, color)];
+            }
+
+            return result;
+        }
+
+        // Fills the boards and returns false when pieces share a square or a pawn stands on a last rank
+        private boolean decode(int index, long[] boards) {
+            Arrays.fill(boards, 0);
+            long occupied = 0;
+
+            for (int slot = 0; slot < slots; slot++) {
+                int square = square(index, slot);
+                long bit = Bitboard.bit(square);
+                int y = Bitboard.getY(square);
+
+                if ((occupied & bit) != 0 || (pieces[slot] == Piece.PAWN && (y == 0 || y == Bitboard.SIZE - 1))) {
+                    return false;
+                }
+
+                occupied |= bit;
+                boards[Bitboard.index(pieces[slot], colors[slot])] |= bit;
+            }
+
+            return true;
+        }
+
+        private Color sideToMove(int index) {
+            return index >>> 6 * slots == 0 ? Color.WHITE : Color.BLACK;
+        }
+
+        private int square(int index, int slot) {
+            return index >>> shift(slot) & 63;
+        }
+
+        private int shift(int slot) {
+            return 6 * (slots - 1 - slot);
+        }
+
+        private void forEach(PositionConsumer consumer) {
+            run(IntStream.range(0, (size + CHUNK - 1) / CHUNK).parallel(), chunk -> {
+                long[] boards = new long[Piece.values().length * 2];
+                int end = Math.min(size, (chunk + 1) * CHUNK);
+
+                for (int index = chunk * CHUNK; index < end; index++) {
+                    consumer.accept(index, boards);
+                }
+            });
+        }
+
+        private void run(IntStream chunks, IntConsumer task) {
+            try {
+                pool.submit(() -> chunks.forEach(task)).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while generating " + material, e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to generate " + material, e.getCause());
+            }
+        }
+    }
+
+    private interface PositionConsumer {
+        void accept(int index, long[] boards);
+    }
+
+    private interface MoveConsumer {
+        void accept(int successor, int value);
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: TablebaseGenerator <directory> <material>...");
+            return;
+        }
+
+        Path directory = Paths.get(args[0]);
+        long start = System.nanoTime();
+
+        try (TablebaseGenerator generator = new TablebaseGenerator(directory, Runtime.getRuntime().availableProcessors())) {
+            Files.createDirectories(directory);
+
+            for (int i = 1; i < args.length; i++) {
+                generator.generate(args[i]);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        System.out.printf("Generated %s in %.1f s%n", String.join(", ", Arrays.asList(args).subList(1, args.length)),
+                (System.nanoTime() - start) / 1e9);
+    }
+}
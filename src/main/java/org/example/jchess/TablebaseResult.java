@@ -0,0 +1,73 @@
+package org.example.jchess;
+
+import java.util.Objects;
+
+public final class TablebaseResult {
+
+    public enum Outcome {
+        WIN,
+        DRAW,
+        LOSS,
+    }
+
+    private final Outcome outcome;
+    private final int pliesToMate;
+
+    // Outcome and distance to mate are from the point of view of the side to move
+    public TablebaseResult(Outcome outcome, int pliesToMate) {
+        if (pliesToMate < 0 || (outcome == Outcome.DRAW && pliesToMate != 0)) {
+            throw new IllegalArgumentException("Invalid distance to mate: " + pliesToMate);
+        }
+
+        this.outcome = Objects.requireNonNull(outcome);
+        this.pliesToMate = pliesToMate;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public int getPliesToMate() {
+        return pliesToMate;
+    }
+
+    // A mate score in the convention of Searcher, for a position reached at the given ply
+    public int toScore(int ply) {
+        switch (outcome) {
+            case WIN:
+                return Searcher.MATE - ply - pliesToMate;
+            case DRAW:
+                return 0;
+            case LOSS:
+                return -Searcher.MATE + ply + pliesToMate;
+            default:
+                throw new IllegalStateException("Unexpected value: " + outcome);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        TablebaseResult that = (TablebaseResult) o;
+
+        if (pliesToMate != that.pliesToMate) return false;
+        return outcome == that.outcome;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = outcome.hashCode();
+        result = 31 * result + pliesToMate;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TablebaseResult{" +
+                "outcome=" + outcome +
+                ", pliesToMate=" + pliesToMate +
+                '}';
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.jchess;
+
+public final class TournamentResult {
+
+    private final int games;
+    private final int whiteWins;
+    private final int draws;
+    private final int blackWins;
+    private final long totalPlies;
+    private final long timeMillis;
+
+    public TournamentResult(int games, int whiteWins, int draws, int blackWins, long totalPlies, long timeMillis) {
+        if (whiteWins + draws + blackWins != games) {
+            throw new IllegalArgumentException("Results do not add up to " + games + " games");
+        }
+
+        this.games = games;
+        this.whiteWins = whiteWins;
+        this.draws = draws;
+        this.blackWins = blackWins;
+        this.totalPlies = totalPlies;
+        this.timeMillis = timeMillis;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getWhiteWins() {
+        return whiteWins;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public int getBlackWins() {
+        return blackWins;
+    }
+
+    public long getTotalPlies() {
+        return totalPlies;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public double getAveragePlies() {
+        return games == 0 ? 0 : (double) totalPlies / games;
+    }
+
+    public double getGamesPerSecond() {
+        return timeMillis == 0 ? games : games * 1000.0 / timeMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        TournamentResult that = (TournamentResult) o;
+
+        if (games != that.games) return false;
+        if (whiteWins != that.whiteWins) return false;
+        if (draws != that.draws) return false;
+        if (blackWins != that.blackWins) return false;
+        if (totalPlies != that.totalPlies) return false;
+        return timeMillis == that.timeMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = games;
+        result = 31 * result + whiteWins;
+        result = 31 * result + draws;
+        result = 31 * result + blackWins;
+        result = 31 * result + Long.hashCode(totalPlies);
+        result = 31 * result + Long.hashCode(timeMillis);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TournamentResult{" +
+                "games=" + games +
+                ", whiteWins=" + whiteWins +
+                ", draws=" + draws +
+                ", blackWins=" + blackWins +
+                ", totalPlies=" + totalPlies +
+                ", timeMillis=" + timeMillis +
+                '}';
+    }
+}
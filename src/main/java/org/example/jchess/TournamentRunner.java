@@ -0,0 +1,191 @@
+package org.example.jchess;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class TournamentRunner {
+
+    private static final int QUEUED_GAMES_PER_THREAD = 4;
+
+    private final PlayerFactory white;
+    private final PlayerFactory black;
+    private final int threads;
+    private final int maxPlies;
+
+    public TournamentRunner(PlayerFactory white, PlayerFactory black, int threads, int maxPlies) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required, got " + threads);
+        }
+
+        if (maxPlies < 1) {
+            throw new IllegalArgumentException("maxPlies must be positive, got " + maxPlies);
+        }
+
+        this.white = Objects.requireNonNull(white);
+        this.black = Objects.requireNonNull(black);
+        this.threads = threads;
+        this.maxPlies = maxPlies;
+    }
+
+    // Results only depend on the seed, never on the number of threads or on scheduling
+    public TournamentResult run(int games, long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games must not be negative, got " + games);
+        }
+
+        // The queue is bounded so that thousands of games are not all materialised up front,
+        // once it is full the submitting thread plays the next game itself
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * QUEUED_GAMES_PER_THREAD), daemonThreads(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        // Results are drained as games finish, so only a small outcome per unfinished game is ever held
+        CompletionService<GameOutcome> completed = new ExecutorCompletionService<>(executor);
+        Tally tally = new Tally();
+        long start = System.nanoTime();
+
+        try {
+            for (int i = 0; i < games; i++) {
+                long gameSeed = gameSeed(seed, i);
+                completed.submit(() -> playGame(gameSeed));
+
+                for (Future<GameOutcome> done = completed.poll(); done != null; done = completed.poll()) {
+                    tally.add(await(done));
+                }
+            }
+
+            while (tally.games < games) {
+                tally.add(await(take(completed)));
+            }
+
+            long timeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new TournamentResult(games, tally.whiteWins, tally.draws, tally.blackWins, tally.totalPlies, timeMillis);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private GameOutcome playGame(long gameSeed) {
+        SplittableRandom random = new SplittableRandom(gameSeed);
+
+        // Every game owns its boards and rules objects, nothing mutable is shared between threads
+        BasicMoveValidator validator = new BasicMoveValidator();
+        MoveGenerator generator = new LegalMoveGenerator();
+        Engine engine = new BasicEngine(validator, generator, validator);
+
+        Player whitePlayer = white.create(new Board(validator), random.nextLong());
+        Player blackPlayer = black.create(new Board(validator), random.nextLong());
+
+        ChessGame game = new ChessGame(whitePlayer, blackPlayer, engine, new Board(validator), new NullRenderer(), maxPlies);
+        game.run();
+
+        Report report = game.getReport().orElseThrow(() -> new IllegalStateException("Game finished without a report"));
+        return new GameOutcome(report.getGameState(), report.getWinner(), game.getPlies());
+    }
+
+    private Future<GameOutcome> take(CompletionService<GameOutcome> completed) {
+        try {
+            return completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for games", e);
+        }
+    }
+
+    private GameOutcome await(Future<GameOutcome> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for games", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Game failed", e.getCause());
+        }
+    }
+
+    private static final class GameOutcome {
+
+        private final GameState state;
+        private final Optional<Color> winner;
+        private final int plies;
+
+        GameOutcome(GameState state, Optional<Color> winner, int plies) {
+            this.state = state;
+            this.winner = winner;
+            this.plies = plies;
+        }
+    }
+
+    private static final class Tally {
+
+        private int games;
+        private int whiteWins;
+        private int draws;
+        private int blackWins;
+        private long totalPlies;
+
+        void add(GameOutcome outcome) {
+            games++;
+            totalPlies += outcome.plies;
+
+            switch (outcome.state) {
+                case CHECKMATE:
+                    Color winner = outcome.winner.orElseThrow(() -> new IllegalStateException("Checkmate without a winner"));
+                    if (winner == Color.WHITE) {
+                        whiteWins++;
+                    } else {
+                        blackWins++;
+                    }
+                    break;
+                case STALEMATE:
+                case DRAW:
+                    draws++;
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected value: " + outcome.state);
+            }
+        }
+    }
+
+    // Consecutive indices are spread out so that neighbouring games do not get correlated random streams
+    private static long gameSeed(long seed, int game) {
+        long z = seed + (game + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, "tournament-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int maxPlies = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        PlayerFactory chaotic = (board, playerSeed) -> new ChaoticPlayer(board, new LegalMoveGenerator(), playerSeed);
+
+        TournamentResult result = new TournamentRunner(chaotic, chaotic, threads, maxPlies).run(games, seed);
+
+        System.out.println(result);
+        System.out.printf("Average plies: %.1f, games per second: %.1f%n", result.getAveragePlies(), result.getGamesPerSecond());
+    }
+}
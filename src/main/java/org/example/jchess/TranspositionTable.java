@@ -0,0 +1,260 @@
+package org.example.jchess;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class TranspositionTable {
+
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    public static final long MISS = 0;
+    public static final int NO_MOVE = 0;
+
+    private static final int ENTRY_BYTES = 16;
+    private static final int CLUSTER_ENTRIES = 4;
+    private static final int CLUSTER_BYTES = ENTRY_BYTES * CLUSTER_ENTRIES;
+    private static final long MEGABYTE = 1L << 20;
+
+    // A direct buffer is indexed by int, so big tables are split into 1 GB segments
+    private static final int SEGMENT_CLUSTERS = (1 << 30) / CLUSTER_BYTES;
+    private static final int FILL_SAMPLE = 1000;
+
+    // Aligned 8 byte accesses through the view are atomic, which is all the lock-free scheme needs
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    // Entry layout: move 16 bits, score 21 bits, depth 8 bits, bound 2 bits, age 8 bits and a bit marking it as used
+    private static final int SCORE_SHIFT = 16;
+    private static final int DEPTH_SHIFT = 37;
+    private static final int BOUND_SHIFT = 45;
+    private static final int AGE_SHIFT = 47;
+    private static final long USED = 1L << 63;
+    private static final int SCORE_BITS = 21;
+
+    private final ByteBuffer[] segments;
+    private final long clusters;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    private volatile int age;
+
+    public TranspositionTable(long sizeInMegabytes) {
+        if (sizeInMegabytes < 1) {
+            throw new IllegalArgumentException("Size must be at least 1 MB, got " + sizeInMegabytes);
+        }
+
+        this.clusters = sizeInMegabytes * MEGABYTE / CLUSTER_BYTES;
+
+        int segmentCount = (int) ((clusters + SEGMENT_CLUSTERS - 1) / SEGMENT_CLUSTERS);
+        this.segments = new ByteBuffer[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++) {
+            long segmentClusters = Math.min(SEGMENT_CLUSTERS, clusters - (long) i * SEGMENT_CLUSTERS);
+            segments[i] = ByteBuffer.allocateDirect((int) segmentClusters * CLUSTER_BYTES).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    // Returns the packed entry stored for the key, or MISS
+    public long probe(long key) {
+        probes.increment();
+
+        ByteBuffer segment = segmentOf(key);
+        int cluster = clusterOffset(key);
+
+        for (int i = 0; i < CLUSTER_ENTRIES; i++) {
+            int offset = cluster + i * ENTRY_BYTES;
+            long data = (long) LONGS.getOpaque(segment, offset + 8);
+
+            if (data == MISS) {
+                continue;
+            }
+
+            // The key is stored xor-ed with the data, so a torn write from another thread simply fails to match
+            if (((long) LONGS.getOpaque(segment, offset) ^ data) == key) {
+                hits.increment();
+                return data;
+            }
+        }
+
+        return MISS;
+    }
+
+    public void store(long key, int move, int score, int depth, int bound) {
+        if (bound < EXACT || bound > UPPER_BOUND) {
+            throw new IllegalArgumentException("Invalid bound: " + bound);
+        }
+
+        ByteBuffer segment = segmentOf(key);
+        int cluster = clusterOffset(key);
+        int currentAge = age;
+
+        int replace = -1;
+        int worstValue = Integer.MAX_VALUE;
+        long replacedData = MISS;
+
+        for (int i = 0; i < CLUSTER_ENTRIES; i++) {
+            int offset = cluster + i * ENTRY_BYTES;
+            long data = (long) LONGS.getOpaque(segment, offset + 8);
+
+            if (data == MISS) {
+                replace = offset;
+                replacedData = MISS;
+                break;
+            }
+
+            if (((long) LONGS.getOpaque(segment, offset) ^ data) == key) {
+                // Keep a deeper result for the same position unless it is from an older search or we now know it exactly
+                if (getDepth(data) > depth && getAge(data) == currentAge && bound != EXACT) {
+                    return;
+                }
+
+                if (move == NO_MOVE) {
+                    move = getMove(data);
+                }
+
+                replace = offset;
+                replacedData = MISS;
+                break;
+            }
+
+            // Shallow entries from earlier searches go first
+            int value = getDepth(data) - 8 * ((currentAge - getAge(data)) & 0xFF);
+            if (value < worstValue) {
+                worstValue = value;
+                replace = offset;
+                replacedData = data;
+            }
+        }
+
+        if (replacedData != MISS) {
+            collisions.increment();
+        }
+
+        long data = pack(move, score, depth, bound, currentAge);
+        LONGS.setOpaque(segment, replace, key ^ data);
+        LONGS.setOpaque(segment, replace + 8, data);
+        stores.increment();
+    }
+
+    public void newSearch() {
+        age = (age + 1) & 0xFF;
+    }
+
+    public void clear() {
+        for (ByteBuffer segment : segments) {
+            for (int offset = 0; offset < segment.capacity(); offset += 8) {
+                LONGS.setOpaque(segment, offset, 0L);
+            }
+        }
+
+        probes.reset();
+        hits.reset();
+        stores.reset();
+        collisions.reset();
+    }
+
+    public long getSizeInBytes() {
+        return clusters * CLUSTER_BYTES;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    // Stores which had to evict an entry for a different position
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    public double getHitRate() {
+        long probeCount = probes.sum();
+        return probeCount == 0 ? 0 : (double) hits.sum() / probeCount;
+    }
+
+    // Estimated from a sample of clusters, counting only entries written during the current search
+    public double getFillRate() {
+        int sampled = (int) Math.min(FILL_SAMPLE, clusters);
+        int currentAge = age;
+        int used = 0;
+
+        for (int c = 0; c < sampled; c++) {
+            for (int i = 0; i < CLUSTER_ENTRIES; i++) {
+                long data = (long) LONGS.getOpaque(segments[0], c * CLUSTER_BYTES + i * ENTRY_BYTES + 8);
+
+                if (data != MISS && getAge(data) == currentAge) {
+                    used++;
+                }
+            }
+        }
+
+        return (double) used / (sampled * CLUSTER_ENTRIES);
+    }
+
+    public static int packMove(Move move) {
+        int from = Bitboard.square(move.getFrom());
+        int to = Bitboard.square(move.getTo());
+        int promotion = move.getPromotedTo().map(p -> p.ordinal() + 1).orElse(0);
+
+        // Offset by one so that no move packs to NO_MOVE
+        return 1 + (from | to << 6 | promotion << 12);
+    }
+
+    public static boolean matches(int packedMove, Move move) {
+        return packedMove != NO_MOVE && packedMove == packMove(move);
+    }
+
+    public static int getMove(long data) {
+        return (int) (data & 0xFFFF);
+    }
+
+    public static int getScore(long data) {
+        // Shift the field to the top of the long and back to restore the sign
+        return (int) (data << (64 - SCORE_SHIFT - SCORE_BITS) >> (64 - SCORE_BITS));
+    }
+
+    public static int getDepth(long data) {
+        return (int) (data >>> DEPTH_SHIFT & 0xFF);
+    }
+
+    public static int getBound(long data) {
+        return (int) (data >>> BOUND_SHIFT & 3);
+    }
+
+    private static int getAge(long data) {
+        return (int) (data >>> AGE_SHIFT & 0xFF);
+    }
+
+    private static long pack(int move, int score, int depth, int bound, int age) {
+        long scoreMask = (1L << SCORE_BITS) - 1;
+
+        return USED |
+                (move & 0xFFFFL) |
+                (score & scoreMask) << SCORE_SHIFT |
+                (long) (Math.max(0, Math.min(depth, 0xFF))) << DEPTH_SHIFT |
+                (long) bound << BOUND_SHIFT |
+                (long) age << AGE_SHIFT;
+    }
+
+    private ByteBuffer segmentOf(long key) {
+        return segments[(int) (Long.remainderUnsigned(key, clusters) / SEGMENT_CLUSTERS)];
+    }
+
+    private int clusterOffset(long key) {
+        return (int) (Long.remainderUnsigned(key, clusters) % SEGMENT_CLUSTERS) * CLUSTER_BYTES;
+    }
+}
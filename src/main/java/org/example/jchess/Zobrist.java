@@ -0,0 +1,89 @@
+package org.example.jchess;
+
+public final class Zobrist {
+
+    private static final int BOARDS = Piece.values().length * Color.values().length;
+
+    // Keys are derived from a fixed seed so that they stay stable across runs and can be persisted
+    private static final long SEED = 0x6A09E667F3BCC908L;
+
+    private static final long[][] PIECES = new long[BOARDS][Bitboard.SQUARES];
+    private static final long[] CASTLING = new long[CastlingRights.ALL + 1];
+    private static final long[] EN_PASSANT_FILES = new long[Bitboard.SIZE];
+    private static final long BLACK_TO_MOVE;
+
+    static {
+        long state = SEED;
+
+        for (int index = 0; index < BOARDS; index++) {
+            for (int square = 0; square < Bitboard.SQUARES; square++) {
+                state += 0x9E3779B97F4A7C15L;
+                PIECES[index][square] = mix(state);
+            }
+        }
+
+        for (int rights = 0; rights < CASTLING.length; rights++) {
+            state += 0x9E3779B97F4A7C15L;
+            CASTLING[rights] = mix(state);
+        }
+
+        for (int file = 0; file < EN_PASSANT_FILES.length; file++) {
+            state += 0x9E3779B97F4A7C15L;
+            EN_PASSANT_FILES[file] = mix(state);
+        }
+
+        state += 0x9E3779B97F4A7C15L;
+        BLACK_TO_MOVE = mix(state);
+    }
+
+    private Zobrist() {
+    }
+
+    public static long compute(Bitboard board, Color sideToMove, int castlingRights, int enPassantSquare) {
+        long key = 0;
+
+        for (Color color : Color.values()) {
+            for (Piece piece : Piece.values()) {
+                for (long bits = board.getPieces(piece, color); bits != 0; bits &= bits - 1) {
+                    key ^= piece(Bitboard.index(piece, color), Long.numberOfTrailingZeros(bits));
+                }
+            }
+        }
+
+        return key ^
+                sideToMove(sideToMove) ^
+                castling(castlingRights) ^
+                enPassant(board.getPieces(Piece.PAWN, sideToMove), sideToMove, enPassantSquare);
+    }
+
+    public static long piece(int index, int square) {
+        return PIECES[index][square];
+    }
+
+    public static long sideToMove(Color sideToMove) {
+        return sideToMove == Color.BLACK ? BLACK_TO_MOVE : 0;
+    }
+
+    public static long castling(int castlingRights) {
+        return CASTLING[castlingRights];
+    }
+
+    // The en-passant file only counts when a pawn of the side to move could actually capture there,
+    // otherwise transpositions that differ by an irrelevant double push would hash differently
+    public static long enPassant(long pawnsToMove, Color sideToMove, int enPassantSquare) {
+        if (enPassantSquare == Bitboard.NO_SQUARE) {
+            return 0;
+        }
+
+        Color opponent = sideToMove == Color.WHITE ? Color.BLACK : Color.WHITE;
+        boolean canCapture = (Attacks.pawn(opponent, enPassantSquare) & pawnsToMove) != 0;
+
+        return canCapture ? EN_PASSANT_FILES[Bitboard.getX(enPassantSquare)] : 0;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AlphaBetaSearcherTest {
+
+    private BasicMoveValidator validator;
+    private MoveGenerator generator;
+    private AlphaBetaSearcher searcher;
+
+    @Before
+    public void setUp() {
+        validator = new BasicMoveValidator();
+        generator = new LegalMoveGenerator();
+        searcher = new AlphaBetaSearcher(generator, validator, validator, new MaterialEvaluator());
+    }
+
+    @Test
+    public void shouldFindMateInOne() {
+        var snapshot = Fen.parse("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        var result = searcher.search(snapshot, SearchLimits.depth(3));
+
+        Assert.assertEquals("a1a8", Notation.toCoordinates(result.getBestMove().get()));
+        Assert.assertEquals(Searcher.MATE - 1, result.getScore());
+    }
+
+    @Test
+    public void shouldSeeMateAtTheHorizon() {
+        // Black is ahead on material, so a stand-pat at the horizon would hide the mate behind the capture searched first
+        var snapshot = Fen.parse("6k1/5ppp/8/8/1n1n4/8/8/Rn4K1 w - - 0 1");
+        var result = searcher.search(snapshot, SearchLimits.depth(1));
+
+        Assert.assertEquals("a1a8", Notation.toCoordinates(result.getBestMove().get()));
+        Assert.assertEquals(Searcher.MATE - 1, result.getScore());
+    }
+
+    @Test
+    public void shouldCaptureHangingQueen() {
+        var snapshot = Fen.parse("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1");
+        var result = searcher.search(snapshot, SearchLimits.depth(2));
+
+        Assert.assertEquals("d2d5", Notation.toCoordinates(result.getBestMove().get()));
+        Assert.assertTrue(result.getScore() > 0);
+    }
+
+    @Test
+    public void principalVariationShouldBeLegal() {
+        var snapshot = Fen.parse("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        var result = searcher.search(snapshot, SearchLimits.depth(3));
+
+        Assert.assertEquals(3, result.getDepth());
+        Assert.assertFalse(result.getPrincipalVariation().isEmpty());
+
+        for (Move move : result.getPrincipalVariation()) {
+            Assert.assertTrue(generator.generateValidMoves(snapshot).contains(move));
+            snapshot = validator.applyMove(snapshot, move);
+        }
+    }
+
+    @Test
+    public void shouldReportEveryIteration() {
+        List<SearchResult> iterations = new ArrayList<>();
+        searcher.search(Fen.parse(Fen.STARTING_POSITION), SearchLimits.depth(3), iterations::add);
+
+        Assert.assertEquals(3, iterations.size());
+        for (int i = 0; i < iterations.size(); i++) {
+            Assert.assertEquals(i + 1, iterations.get(i).getDepth());
+        }
+    }
+
+    @Test
+    public void shouldStopOnNodeBudget() {
+        var result = searcher.search(Fen.parse(Fen.STARTING_POSITION), SearchLimits.nodes(5_000));
+
+        Assert.assertTrue(result.getBestMove().isPresent());
+        Assert.assertTrue(result.getDepth() < SearchLimits.MAX_DEPTH);
+        Assert.assertTrue(result.getNodes() <= 5_000 + 1);
+    }
+
+    @Test
+    public void shouldStopOnTimeBudget() {
+        long start = System.nanoTime();
+        var result = searcher.search(Fen.parse(Fen.STARTING_POSITION), SearchLimits.time(200));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertTrue(result.getBestMove().isPresent());
+        Assert.assertTrue(elapsedMillis < 2_000);
+    }
+
+    @Test
+    public void shouldReturnNoMoveWhenThereIsNone() {
+        var result = searcher.search(Fen.parse("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1"), SearchLimits.depth(2));
+
+        Assert.assertFalse(result.getBestMove().isPresent());
+    }
+
+    @Test
+    public void searchingPlayerShouldPlayTheSearchedMove() {
+        var board = new Board(validator);
+        var player = new SearchingPlayer(board, searcher, SearchLimits.depth(2));
+
+        var move = player.obtainNextMove();
+
+        Assert.assertEquals(move, player.getLastResult().get().getBestMove().get());
+        Assert.assertEquals(move, board.getSnapshot().getLastMove().get());
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncRendererDecoratorTest {
+
+    private final BasicMoveValidator validator = new BasicMoveValidator();
+    private final LegalMoveGenerator generator = new LegalMoveGenerator();
+
+    @Test
+    public void shouldRenderEveryFrameInOrderWhenKeepingUp() {
+        List<BoardSnapshot> drawn = Collections.synchronizedList(new ArrayList<>());
+        List<BoardSnapshot> frames = frames(20);
+
+        try (AsyncRendererDecorator renderer = new AsyncRendererDecorator(drawn::add, frames.size())) {
+            frames.forEach(renderer::draw);
+        }
+
+        Assert.assertEquals(frames, drawn);
+    }
+
+    @Test
+    public void shouldDropIntermediateFramesInsteadOfBlocking() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<BoardSnapshot> drawn = Collections.synchronizedList(new ArrayList<>());
+        List<BoardSnapshot> frames = frames(50);
+
+        AsyncRendererDecorator renderer = new AsyncRendererDecorator(snapshot -> {
+            await(release);
+            drawn.add(snapshot);
+        }, 2);
+
+        long start = System.nanoTime();
+        frames.forEach(renderer::draw);
+
+        // The render thread is stuck on its first frame, yet the game thread went through every ply
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+
+        release.countDown();
+        renderer.close();
+
+        Assert.assertEquals(frames.size(), renderer.getRenderedFrames() + renderer.getDroppedFrames());
+        Assert.assertTrue(renderer.getDroppedFrames() >= frames.size() - 3);
+        Assert.assertEquals(frames.get(frames.size() - 1), drawn.get(drawn.size() - 1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldReportRendererFailures() {
+        AsyncRendererDecorator renderer = new AsyncRendererDecorator(snapshot -> {
+            throw new IllegalArgumentException("broken terminal");
+        }, 1);
+
+        renderer.draw(new Board(validator).getSnapshot());
+        renderer.close();
+    }
+
+    private List<BoardSnapshot> frames(int plies) {
+        Board board = new Board(validator);
+        List<BoardSnapshot> frames = new ArrayList<>();
+        frames.add(board.getSnapshot());
+
+        for (int i = 0; i < plies - 1; i++) {
+            board.applyMove(generator.generateValidMoves(board.getSnapshot()).get(0));
+            frames.add(board.getSnapshot());
+        }
+
+        return frames;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.Random;
+
+public class AttackMapCheckCheckerTest {
+
+    private AttackMapCheckChecker checker;
+
+    @Before
+    public void setUp() {
+        checker = new AttackMapCheckChecker();
+    }
+
+    @Test
+    public void shouldFindCheckersAndPinnedPieces() {
+        // Black rook checks down the e-file, the bishop on b4 pins the knight on d2
+        var snapshot = Fen.parse("4r1k1/8/8/8/1b6/8/3N4/4K3 w - - 0 1");
+        var checkInfo = checker.getCheckInfo(snapshot);
+
+        Assert.assertEquals(Notation.parseSquare("e1"), checkInfo.getKingSquare());
+        Assert.assertEquals(Bitboard.bit(Notation.parseSquare("e8")), checkInfo.getCheckers());
+        Assert.assertEquals(Bitboard.bit(Notation.parseSquare("d2")), checkInfo.getPinned());
+        Assert.assertTrue(checkInfo.isInCheck());
+        Assert.assertFalse(checkInfo.isDoubleCheck());
+    }
+
+    @Test
+    public void shouldRestrictMovesToBlocksCapturesAndPinRays() {
+        var snapshot = Fen.parse("4r1k1/8/8/8/1b6/8/3N4/4K3 w - - 0 1");
+        var checkInfo = checker.getCheckInfo(snapshot);
+
+        int knight = Notation.parseSquare("d2");
+        int king = Notation.parseSquare("e1");
+
+        // The knight is pinned, so it can neither block on e4 nor go anywhere else
+        Assert.assertFalse(checkInfo.isLegal(knight, Notation.parseSquare("e4")));
+        Assert.assertFalse(checkInfo.isLegal(knight, Notation.parseSquare("b3")));
+
+        Assert.assertTrue(checkInfo.isLegal(king, Notation.parseSquare("f2")));
+        Assert.assertFalse(checkInfo.isLegal(king, Notation.parseSquare("e2")));
+        Assert.assertTrue(checkInfo.isLegal(king, Notation.parseSquare("d1")));
+    }
+
+    @Test
+    public void shouldDetectDoubleCheck() {
+        var snapshot = Fen.parse("4k3/8/8/8/8/5n2/8/r3K3 w - - 0 1");
+        var checkInfo = checker.getCheckInfo(snapshot);
+
+        Assert.assertTrue(checkInfo.isDoubleCheck());
+        Assert.assertEquals(0, checkInfo.getEvasionMask());
+    }
+
+    @Test
+    public void shouldReuseResultForTheSameSnapshot() {
+        var snapshot = Fen.parse(Fen.STARTING_POSITION);
+
+        Assert.assertSame(checker.getCheckInfo(snapshot), checker.getCheckInfo(snapshot));
+    }
+
+    @Test
+    public void shouldAgreeWithSearchPositionOverARandomGame() {
+        var validator = new BasicMoveValidator();
+        var generator = new PseudoLegalMoveGenerator(validator);
+        var random = new Random(5);
+        var snapshot = Fen.parse(Fen.STARTING_POSITION);
+
+        for (int ply = 0; ply < 200; ply++) {
+            var moves = generator.generateValidMoves(snapshot);
+
+            if (moves.isEmpty()) {
+                break;
+            }
+
+            for (Color color : Color.values()) {
+                var position = SearchPosition.of(snapshot);
+                Assert.assertEquals(position.isInCheck(color), checker.isUnderCheck(snapshot.getBitboard(), color));
+            }
+
+            snapshot = validator.applyMove(snapshot, moves.get(random.nextInt(moves.size())));
+        }
+    }
+}
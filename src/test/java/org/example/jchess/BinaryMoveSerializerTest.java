@@ -0,0 +1,114 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Optional;
+
+public class BinaryMoveSerializerTest {
+
+    private BinaryMoveSerializer serializer;
+
+    @Before
+    public void setUp() {
+        serializer = new BinaryMoveSerializer();
+    }
+
+    @Test
+    public void shouldDeserializeAndSerialize() {
+        Move move = new Move(new Position(3, 4), new Position(5, 6), Piece.BISHOP, Color.WHITE, Optional.empty());
+        byte[] bytes = serializer.serialize(move);
+
+        Assert.assertEquals(BinaryMoveSerializer.MOVE_BYTES, bytes.length);
+        Assert.assertEquals(move, serializer.deserialize(bytes));
+    }
+
+    @Test
+    public void shouldUseThirdByteForPromotions() {
+        Move move = new Move(new Position(0, 6), new Position(1, 7), Piece.PAWN, Color.BLACK, Optional.of(Piece.KNIGHT));
+        byte[] bytes = serializer.serialize(move);
+
+        Assert.assertEquals(BinaryMoveSerializer.PROMOTION_BYTES, bytes.length);
+        Assert.assertEquals(move, serializer.deserialize(bytes));
+    }
+
+    @Test
+    public void shouldRoundTripEveryGeneratedMove() {
+        var snapshot = Fen.parse("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 b kq - 0 1");
+
+        for (Move move : new LegalMoveGenerator().generateValidMoves(snapshot)) {
+            Assert.assertEquals(move, serializer.deserialize(serializer.serialize(move)));
+        }
+    }
+
+    @Test
+    public void batchShouldRoundTripThroughReusedBuffer() {
+        var moves = new LegalMoveGenerator().generateValidMoves(Fen.parse(Fen.STARTING_POSITION)).toArray(new Move[0]);
+        var buffer = ByteBuffer.allocate(64);
+        var decoded = new Move[moves.length];
+
+        for (int round = 0; round < 2; round++) {
+            buffer.clear();
+            serializer.serialize(moves, 0, moves.length, buffer);
+            Assert.assertEquals(moves.length * BinaryMoveSerializer.MOVE_BYTES, buffer.position());
+
+            buffer.flip();
+            Assert.assertEquals(moves.length, serializer.deserialize(buffer, decoded, 0));
+            Assert.assertArrayEquals(moves, decoded);
+            Assert.assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    public void batchShouldLeaveIncompleteMoveInBuffer() {
+        Move promotion = new Move(new Position(0, 1), new Position(0, 0), Piece.PAWN, Color.WHITE, Optional.of(Piece.QUEEN));
+        var buffer = ByteBuffer.wrap(serializer.serialize(promotion), 0, 2);
+        var decoded = new Move[1];
+
+        Assert.assertEquals(0, serializer.deserialize(buffer, decoded, 0));
+        Assert.assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void batchShouldRoundTripLittleEndianPromotionSplitAcrossReads() {
+        Move pawn = new Move(new Position(4, 6), new Position(4, 4), Piece.PAWN, Color.WHITE, Optional.empty());
+        Move promotion = new Move(new Position(0, 1), new Position(0, 0), Piece.PAWN, Color.WHITE, Optional.of(Piece.QUEEN));
+        var written = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        serializer.serialize(new Move[]{pawn, promotion}, 0, 2, written);
+
+        // Only the promotion's leading two bytes arrive with the first read
+        var buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(written.array(), 0, BinaryMoveSerializer.MOVE_BYTES + 2).flip();
+        var decoded = new Move[2];
+
+        Assert.assertEquals(1, serializer.deserialize(buffer, decoded, 0));
+        Assert.assertEquals(2, buffer.remaining());
+
+        buffer.compact();
+        buffer.put(written.array(), BinaryMoveSerializer.MOVE_BYTES + 2, 1).flip();
+
+        Assert.assertEquals(1, serializer.deserialize(buffer, decoded, 1));
+        Assert.assertArrayEquals(new Move[]{pawn, promotion}, decoded);
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void batchShouldNotWritePartOfMove() {
+        Move promotion = new Move(new Position(0, 1), new Position(0, 0), Piece.PAWN, Color.WHITE, Optional.of(Piece.QUEEN));
+        var buffer = ByteBuffer.allocate(2);
+
+        try {
+            serializer.serialize(new Move[]{promotion}, 0, 1, buffer);
+            Assert.fail();
+        } catch (BufferOverflowException e) {
+            Assert.assertEquals(0, buffer.position());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectWrongLength() {
+        serializer.deserialize(new byte[]{1, 2, 3, 4});
+    }
+}
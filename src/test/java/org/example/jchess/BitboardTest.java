@@ -0,0 +1,27 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.Optional;
+
+public class BitboardTest {
+
+    @Test
+    public void shouldRoundTripTiles() {
+        var tiles = BoardHelper.getStartingBoard();
+        var bitboard = Bitboard.fromTiles(tiles);
+
+        Assert.assertEquals(tiles, bitboard.toTiles());
+    }
+
+    @Test
+    public void shouldTrackOccupancy() {
+        var bitboard = Bitboard.fromTiles(BoardHelper.getStartingBoard());
+
+        Assert.assertEquals(32, Long.bitCount(bitboard.getOccupancy()));
+        Assert.assertEquals(16, Long.bitCount(bitboard.getOccupancy(Color.WHITE)));
+        Assert.assertEquals(8, Long.bitCount(bitboard.getPieces(Piece.PAWN, Color.BLACK)));
+        Assert.assertEquals(Optional.of(new OccupiedTile(Piece.KING, Color.WHITE)), bitboard.getTile(4, 7));
+        Assert.assertEquals(Optional.empty(), bitboard.getTile(4, 4));
+    }
+}
@@ -22,6 +22,16 @@ public final class BoardHelper {
         );
     }
 
+    public static List<List<Optional<OccupiedTile>>> getEmptyBoard() {
+        List<List<Optional<OccupiedTile>>> board = new ArrayList<>();
+
+        for (int rows = 0; rows < 8; rows++) {
+            board.add(constructEmptyRow());
+        }
+
+        return board;
+    }
+
     public static List<Optional<OccupiedTile>> constructEdgeRow(Color player) {
         var topRow = Arrays.asList(
                 Optional.of(new OccupiedTile(Piece.ROOK, player)),
@@ -0,0 +1,99 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class DiffRendererTest {
+
+    private final BasicMoveValidator validator = new BasicMoveValidator();
+    private final LegalMoveGenerator generator = new LegalMoveGenerator();
+
+    @Test
+    public void shouldWriteOnlyChangedSquares() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DiffRenderer renderer = new DiffRenderer(out, 100);
+        BoardSnapshot start = new Board(validator).getSnapshot();
+        BoardSnapshot afterE4 = validator.applyMove(start, Move.of(Position.of(4, 6), Position.of(4, 4), Piece.PAWN, Color.WHITE, Optional.empty()));
+
+        renderer.draw(start);
+        renderer.draw(afterE4);
+
+        Assert.assertEquals("= " + Fen.STARTING_POSITION + "\ne4P e2-\n", out.toString(StandardCharsets.UTF_8));
+        Assert.assertEquals(out.size(), renderer.getBytesWritten());
+    }
+
+    @Test
+    public void shouldReplayToTheSamePositions() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DiffRenderer renderer = new DiffRenderer(out, 8);
+        List<BoardSnapshot> frames = play(60);
+
+        frames.forEach(renderer::draw);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        char[] board = null;
+
+        Assert.assertEquals(frames.size(), lines.length);
+
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].startsWith("= ")) {
+                Assert.assertEquals(0, i % 8);
+                board = placement(Fen.parse(lines[i].substring(2)));
+            } else {
+                for (String change : lines[i].split(" ")) {
+                    board[Notation.parseSquare(change.substring(0, 2))] = change.charAt(2);
+                }
+            }
+
+            Assert.assertArrayEquals(placement(frames.get(i)), board);
+        }
+    }
+
+    @Test
+    public void shouldWriteAnOrderOfMagnitudeLessThanFullFrames() {
+        ByteArrayOutputStream full = new ByteArrayOutputStream();
+        DiffRenderer renderer = new DiffRenderer(new ByteArrayOutputStream(), 32);
+        Renderer streamRenderer = new StreamRenderer(full);
+
+        for (BoardSnapshot frame : play(200)) {
+            renderer.draw(frame);
+            streamRenderer.draw(frame);
+        }
+
+        Assert.assertTrue(full.size() > 10 * renderer.getBytesWritten());
+    }
+
+    private List<BoardSnapshot> play(int plies) {
+        Board board = new Board(validator);
+        ChaoticPlayer player = new ChaoticPlayer(board, generator, 7);
+        List<BoardSnapshot> frames = new ArrayList<>();
+        frames.add(board.getSnapshot());
+
+        for (int i = 0; i < plies - 1 && !generator.generateValidMoves(board.getSnapshot()).isEmpty(); i++) {
+            // The player applies its move to the shared board
+            player.obtainNextMove();
+            frames.add(board.getSnapshot());
+        }
+
+        return frames;
+    }
+
+    private static char[] placement(BoardSnapshot snapshot) {
+        char[] board = new char[Bitboard.SQUARES];
+
+        for (int square = 0; square < Bitboard.SQUARES; square++) {
+            board[square] = snapshot.getBitboard().getTile(Bitboard.getX(square), Bitboard.getY(square))
+                    .map(t -> t.getPlayerColor() == Color.WHITE ?
+                            Character.toUpperCase(Notation.pieceToLetter(t.getPiece())) :
+                            Notation.pieceToLetter(t.getPiece()))
+                    .orElse('-');
+        }
+
+        return board;
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+public class FenTest {
+
+    private BasicMoveValidator validator;
+
+    @Before
+    public void setUp() {
+        validator = new BasicMoveValidator();
+    }
+
+    @Test
+    public void startingPositionShouldMatchDefaultBoard() {
+        var parsed = Fen.parse(Fen.STARTING_POSITION);
+        var snapshot = new BoardSnapshot(BoardHelper.getStartingBoard(), new ArrayList<>());
+
+        Assert.assertEquals(snapshot, parsed);
+        Assert.assertEquals(Fen.STARTING_POSITION, Fen.format(snapshot));
+    }
+
+    @Test
+    public void formatShouldRoundTrip() {
+        String[] positions = {
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+                "rnbqkbnr/ppp1pppp/8/3pP3/8/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 3",
+                "8/8/8/8/8/8/8/K6k b - - 42 97"
+        };
+
+        for (String fen : positions) {
+            Assert.assertEquals(fen, Fen.format(Fen.parse(fen)));
+        }
+    }
+
+    @Test
+    public void countersShouldBeOptional() {
+        var snapshot = Fen.parse("8/8/8/8/8/8/8/K6k w - -");
+
+        Assert.assertEquals(0, snapshot.getHalfmoveClock());
+        Assert.assertEquals(1, snapshot.getFullmoveNumber());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectShortRank() {
+        Fen.parse("rnbqkbnr/ppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnknownSideToMove() {
+        Fen.parse("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1");
+    }
+
+    @Test
+    public void castlingShouldFollowRightsNotHistory() {
+        var kingside = move(4, 7, 6, 7, Piece.KING, Color.WHITE);
+
+        Assert.assertTrue(validator.isValid(Fen.parse("4k3/8/8/8/8/8/8/4K2R w K - 0 1"), kingside));
+        Assert.assertFalse(validator.isValid(Fen.parse("4k3/8/8/8/8/8/8/4K2R w Q - 0 1"), kingside));
+        Assert.assertFalse(validator.isValid(Fen.parse("4k3/8/8/8/8/8/8/4K2R w - - 0 1"), kingside));
+    }
+
+    @Test
+    public void castlingShouldRequireTwoSquareKingMove() {
+        var snapshot = Fen.parse("4k3/8/8/8/8/8/8/R3K3 w Q - 0 1");
+
+        Assert.assertTrue(validator.isValid(snapshot, move(4, 7, 2, 7, Piece.KING, Color.WHITE)));
+        Assert.assertFalse(validator.isValid(snapshot, move(4, 7, 1, 7, Piece.KING, Color.WHITE)));
+    }
+
+    @Test
+    public void enPassantShouldFollowTargetSquare() {
+        var capture = move(4, 3, 3, 2, Piece.PAWN, Color.WHITE);
+
+        var withTarget = Fen.parse("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1");
+        var withoutTarget = Fen.parse("4k3/8/8/3pP3/8/8/8/4K3 w - - 0 1");
+
+        Assert.assertTrue(validator.isValid(withTarget, capture));
+        Assert.assertFalse(validator.isValid(withoutTarget, capture));
+
+        var applied = validator.applyMove(withTarget, capture);
+        Assert.assertEquals("4k3/8/3P4/8/8/8/8/4K3 b - - 0 1", Fen.format(applied));
+    }
+
+    @Test
+    public void applyMoveShouldUpdateCountersAndRights() {
+        var snapshot = Fen.parse("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 5 10");
+
+        snapshot = validator.applyMove(snapshot, move(0, 7, 1, 7, Piece.ROOK, Color.WHITE));
+        Assert.assertEquals("r3k2r/8/8/8/8/8/8/1R2K2R b Kkq - 6 10", Fen.format(snapshot));
+
+        snapshot = validator.applyMove(snapshot, move(4, 0, 6, 0, Piece.KING, Color.BLACK));
+        Assert.assertEquals("r4rk1/8/8/8/8/8/8/1R2K2R w K - 7 11", Fen.format(snapshot));
+
+        snapshot = validator.applyMove(snapshot, move(7, 7, 7, 0, Piece.ROOK, Color.WHITE));
+        Assert.assertEquals("r4rkR/8/8/8/8/8/8/1R2K3 b - - 8 11", Fen.format(snapshot));
+
+        Assert.assertEquals(Fen.parse(Fen.format(snapshot)).getKey(), snapshot.getKey());
+    }
+
+    @Test
+    public void blackShouldMoveFirstWhenFenSaysSo() {
+        var snapshot = Fen.parse("4k3/4p3/8/8/8/8/4P3/4K3 b - - 0 1");
+
+        Assert.assertTrue(validator.isValid(snapshot, move(4, 1, 4, 3, Piece.PAWN, Color.BLACK)));
+        Assert.assertFalse(validator.isValid(snapshot, move(4, 6, 4, 4, Piece.PAWN, Color.WHITE)));
+
+        snapshot = validator.applyMove(snapshot, move(4, 1, 4, 3, Piece.PAWN, Color.BLACK));
+        Assert.assertTrue(validator.isValid(snapshot, move(4, 6, 4, 4, Piece.PAWN, Color.WHITE)));
+    }
+
+    private static Move move(int fromX, int fromY, int toX, int toY, Piece piece, Color color) {
+        return new Move(new Position(fromX, fromY), new Position(toX, toY), piece, color, Optional.empty());
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.jchess;
+
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class GameLogTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final BasicMoveValidator validator = new BasicMoveValidator();
+    private final LegalMoveGenerator generator = new LegalMoveGenerator();
+
+    @Test
+    public void shouldReplayGameToAnyPly() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        List<BoardSnapshot> positions = new ArrayList<>();
+        int game;
+
+        try (GameLog log = new GameLog(directory)) {
+            game = log.newGame();
+            BoardSnapshot snapshot = new Board(validator).getSnapshot();
+            positions.add(snapshot);
+
+            for (Move move : randomGame(1, 60)) {
+                log.append(game, move);
+                snapshot = validator.applyMove(snapshot, move);
+                positions.add(snapshot);
+            }
+
+            for (int ply = 0; ply < positions.size(); ply++) {
+                Assert.assertEquals(positions.get(ply), log.replay(game, ply, validator).getSnapshot());
+            }
+        }
+
+        try (GameLog log = new GameLog(directory)) {
+            Assert.assertEquals(positions.size() - 1, log.getPlies(game));
+            Assert.assertEquals(positions.get(positions.size() - 1), log.replay(game, log.getPlies(game), validator).getSnapshot());
+            Assert.assertEquals(game + 1, log.newGame());
+        }
+    }
+
+    @Test
+    public void shouldKeepInterleavedGamesApartAcrossSegments() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        List<Move> first = randomGame(2, 80);
+        List<Move> second = randomGame(3, 80);
+
+        try (GameLog log = new GameLog(directory, 128)) {
+            int a = log.newGame();
+            int b = log.newGame();
+
+            for (int i = 0; i < Math.max(first.size(), second.size()); i++) {
+                if (i < first.size()) {
+                    log.append(a, first.get(i));
+                }
+                if (i < second.size()) {
+                    log.append(b, second.get(i));
+                }
+            }
+        }
+
+        try (GameLog log = new GameLog(directory, 128)) {
+            Assert.assertEquals(List.of(0, 1), log.getGames());
+            Assert.assertEquals(first, log.getMoves(0));
+            Assert.assertEquals(second, log.getMoves(1));
+        }
+
+        Assert.assertTrue(Files.exists(directory.resolve("00000001.log")));
+    }
+
+    @Test
+    public void shouldDropTornTailOnRecovery() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        List<Move> moves = randomGame(4, 10);
+        long end;
+
+        try (GameLog log = new GameLog(directory, 4096)) {
+            int game = log.newGame();
+
+            for (Move move : moves) {
+                log.append(game, move);
+            }
+
+            end = log.getSizeInBytes();
+        }
+
+        // Corrupt the checksum of the last record as if the process died while writing it
+        try (FileChannel channel = FileChannel.open(directory.resolve("00000000.log"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x55}), end - 1);
+        }
+
+        try (GameLog log = new GameLog(directory, 4096)) {
+            Assert.assertEquals(moves.subList(0, moves.size() - 1), log.getMoves(0));
+
+            // Appending continues where the valid data ended
+            log.append(0, moves.get(moves.size() - 1));
+        }
+
+        try (GameLog log = new GameLog(directory, 4096)) {
+            Assert.assertEquals(moves, log.getMoves(0));
+        }
+    }
+
+    @Test
+    public void recordingRendererShouldArchiveEveryMove() throws IOException {
+        try (GameLog log = new GameLog(folder.getRoot().toPath())) {
+            var recorder = new RecordingRendererDecorator(new NullRenderer(), log);
+            var white = new ChaoticPlayer(new Board(validator), generator, 5);
+            var black = new ChaoticPlayer(new Board(validator), generator, 6);
+            var board = new Board(validator);
+
+            var game = new ChessGame(white, black, new BasicEngine(validator, generator, validator), board, recorder, 40);
+            game.run();
+
+            Assert.assertEquals(game.getPlies(), log.getPlies(recorder.getGame()));
+            Assert.assertEquals(board.getSnapshot(), log.replay(recorder.getGame(), game.getPlies(), validator).getSnapshot());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectReplayBeyondGame() throws IOException {
+        try (GameLog log = new GameLog(folder.getRoot().toPath())) {
+            int game = log.newGame();
+            log.replay(game, 1, validator);
+        }
+    }
+
+    @Test
+    public void shouldRejectUseAfterClose() throws IOException {
+        GameLog log = new GameLog(folder.getRoot().toPath());
+        int game = log.newGame();
+        Move move = randomGame(4, 1).get(0);
+        log.append(game, move);
+        log.close();
+        log.close();
+
+        assertClosed(() -> log.append(game, move));
+        assertClosed(() -> log.getMoves(game));
+        assertClosed(() -> log.replay(game, 1, validator));
+    }
+
+    private static void assertClosed(Runnable action) {
+        try {
+            action.run();
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("Game log is closed", e.getMessage());
+        }
+    }
+
+    private List<Move> randomGame(long seed, int plies) {
+        Random random = new Random(seed);
+        BoardSnapshot snapshot = new Board(validator).getSnapshot();
+        List<Move> moves = new ArrayList<>();
+
+        for (int i = 0; i < plies; i++) {
+            List<Move> legal = generator.generateValidMoves(snapshot);
+
+            if (legal.isEmpty()) {
+                break;
+            }
+
+            Move move = legal.get(random.nextInt(legal.size()));
+            moves.add(move);
+            snapshot = validator.applyMove(snapshot, move);
+        }
+
+        return moves;
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class GameServerTest {
+
+    private static final int TIMEOUT_MS = 5000;
+
+    private final MoveSerializer serializer = new BinaryMoveSerializer();
+
+    private GameServer server;
+    private Thread loop;
+
+    @Before
+    public void setUp() throws IOException {
+        BasicMoveValidator validator = new BasicMoveValidator();
+        Engine engine = new BasicEngine(validator, new LegalMoveGenerator(), validator);
+
+        server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), engine, validator, serializer);
+        loop = new Thread(server);
+        loop.start();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        server.close();
+        loop.join(TIMEOUT_MS);
+    }
+
+    @Test
+    public void shouldPlayGameToMate() throws IOException {
+        try (Client white = new Client(); Client black = new Client()) {
+            Assert.assertEquals(Color.WHITE.ordinal(), white.readFrame()[0]);
+            Assert.assertEquals(Color.BLACK.ordinal(), black.readFrame()[0]);
+
+            // Fool's mate
+            Move[] moves = {
+                    move(5, 6, 5, 5, Piece.PAWN, Color.WHITE),
+                    move(4, 1, 4, 3, Piece.PAWN, Color.BLACK),
+                    move(6, 6, 6, 4, Piece.PAWN, Color.WHITE),
+                    move(3, 0, 7, 4, Piece.QUEEN, Color.BLACK),
+            };
+
+            for (int i = 0; i < moves.length; i++) {
+                Client mover = i % 2 == 0 ? white : black;
+                Client opponent = i % 2 == 0 ? black : white;
+
+                mover.send(moves[i]);
+                Assert.assertEquals(moves[i], serializer.deserialize(opponent.readFrame()));
+            }
+
+            white.assertClosed();
+            black.assertClosed();
+        }
+
+        Assert.assertEquals(1, server.getFinishedGames());
+        Assert.assertEquals(4, server.getMoves());
+        Assert.assertEquals(0, server.getGames());
+    }
+
+    @Test
+    public void shouldEndGameOnInvalidMove() throws IOException {
+        try (Client white = new Client(); Client black = new Client()) {
+            white.readFrame();
+            black.readFrame();
+
+            white.send(move(4, 6, 4, 3, Piece.PAWN, Color.WHITE));
+
+            white.assertClosed();
+            black.assertClosed();
+        }
+
+        Assert.assertEquals(0, server.getFinishedGames());
+        Assert.assertEquals(0, server.getMoves());
+    }
+
+    @Test
+    public void shouldRejectMoveOutOfTurn() throws IOException {
+        try (Client white = new Client(); Client black = new Client()) {
+            white.readFrame();
+            black.readFrame();
+
+            black.send(move(4, 1, 4, 3, Piece.PAWN, Color.BLACK));
+
+            white.assertClosed();
+            black.assertClosed();
+        }
+
+        Assert.assertEquals(0, server.getMoves());
+    }
+
+    @Test
+    public void shouldHostManyGamesAtOnce() throws IOException {
+        int games = 20;
+        Client[] clients = new Client[2 * games];
+
+        try {
+            for (int i = 0; i < clients.length; i++) {
+                clients[i] = new Client();
+            }
+
+            // White is only told its color once an opponent has connected
+            for (int i = 0; i < clients.length; i++) {
+                Assert.assertEquals(i % 2, clients[i].readFrame()[0]);
+            }
+
+            Assert.assertEquals(games, server.getGames());
+
+            for (int i = 0; i < clients.length; i += 2) {
+                Move move = move(i % 8, 6, i % 8, 4, Piece.PAWN, Color.WHITE);
+                clients[i].send(move);
+                Assert.assertEquals(move, serializer.deserialize(clients[i + 1].readFrame()));
+            }
+
+            Assert.assertEquals(games, server.getMoves());
+        } finally {
+            for (Client client : clients) {
+                if (client != null) {
+                    client.close();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldKeepHostingAfterWaitingPeerResets() throws IOException, InterruptedException {
+        for (int round = 0; round < 10; round++) {
+            List<Client> clients = new ArrayList<>();
+
+            try {
+                Client waiting = new Client();
+                awaitConnections(1);
+
+                // Closing with a zero linger time sends a reset instead of an orderly end of stream
+                waiting.socket.setSoLinger(true, 0);
+                waiting.close();
+
+                Client opponent = new Client();
+                Client next = new Client();
+                clients.add(opponent);
+                clients.add(next);
+
+                // Either the reset was read first and the opponent waits for the next client,
+                // or the opponent was paired with the reset peer and dropped along with it
+                Optional<Integer> color = opponent.readColor();
+                Client white = opponent;
+                Client black = next;
+
+                if (color.isEmpty() || color.get() != Color.WHITE.ordinal()) {
+                    if (color.isPresent()) {
+                        opponent.assertClosed();
+                    }
+
+                    white = next;
+                    black = new Client();
+                    clients.add(black);
+                    Assert.assertEquals(Optional.of(Color.WHITE.ordinal()), white.readColor());
+                }
+
+                Assert.assertEquals(Optional.of(Color.BLACK.ordinal()), black.readColor());
+
+                Move move = move(4, 6, 4, 4, Piece.PAWN, Color.WHITE);
+                white.send(move);
+                Assert.assertEquals(move, serializer.deserialize(black.readFrame()));
+            } finally {
+                for (Client client : clients) {
+                    client.close();
+                }
+            }
+
+            awaitConnections(0);
+        }
+
+        Assert.assertTrue(loop.isAlive());
+    }
+
+    private void awaitConnections(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+
+        while (server.getConnections() != expected) {
+            Assert.assertTrue("Expected " + expected + " connections, got " + server.getConnections(),
+                    System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static Move move(int srcX, int srcY, int destX, int destY, Piece piece, Color color) {
+        return new Move(new Position(srcX, srcY), new Position(destX, destY), piece, color, Optional.empty());
+    }
+
+    private final class Client implements AutoCloseable {
+
+        private final Socket socket;
+        private final DataInputStream input;
+        private final DataOutputStream output;
+
+        private Client() throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+            socket.setSoTimeout(TIMEOUT_MS);
+            input = new DataInputStream(socket.getInputStream());
+            output = new DataOutputStream(socket.getOutputStream());
+        }
+
+        private byte[] readFrame() throws IOException {
+            return MoveFrames.read(input);
+        }
+
+        private void send(Move move) throws IOException {
+            MoveFrames.write(output, serializer.serialize(move));
+            output.flush();
+        }
+
+        private Optional<Integer> readColor() throws IOException {
+            try {
+                return Optional.of((int) readFrame()[0]);
+            } catch (EOFException e) {
+                return Optional.empty();
+            }
+        }
+
+        private void assertClosed() throws IOException {
+            try {
+                readFrame();
+                Assert.fail("Expected the server to close the connection");
+            } catch (EOFException e) {
+                // Expected
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.function.Supplier;
+
+public class LazySmpSearcherTest {
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    @Test
+    public void singleThreadShouldMatchPlainSearch() {
+        var snapshot = Fen.parse(KIWIPETE);
+
+        var expected = searcher(new TranspositionTable(1)).search(snapshot, SearchLimits.depth(4));
+
+        try (var parallel = new LazySmpSearcher(searchers(new TranspositionTable(1)), 1)) {
+            var actual = parallel.search(snapshot, SearchLimits.depth(4));
+
+            Assert.assertEquals(expected.getPrincipalVariation(), actual.getPrincipalVariation());
+            Assert.assertEquals(expected.getScore(), actual.getScore());
+            Assert.assertEquals(expected.getNodes(), actual.getNodes());
+        }
+    }
+
+    @Test
+    public void helpersShouldFindTheSameMate() {
+        try (var parallel = new LazySmpSearcher(searchers(new TranspositionTable(4)), 4)) {
+            var result = parallel.search(Fen.parse("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1"), SearchLimits.depth(4));
+
+            Assert.assertEquals("a1a8", Notation.toCoordinates(result.getBestMove().get()));
+            Assert.assertEquals(Searcher.MATE - 1, result.getScore());
+        }
+    }
+
+    @Test
+    public void helpersShouldStopWithTheMainSearch() {
+        try (var parallel = new LazySmpSearcher(searchers(new TranspositionTable(16)), 4)) {
+            var snapshot = Fen.parse(KIWIPETE);
+
+            for (int i = 0; i < 3; i++) {
+                long start = System.nanoTime();
+                var result = parallel.search(snapshot, SearchLimits.time(100));
+                long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+                Assert.assertTrue(result.getBestMove().isPresent());
+                Assert.assertTrue(elapsedMillis < 2_000);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectZeroThreads() {
+        new LazySmpSearcher(searchers(new TranspositionTable(1)), 0);
+    }
+
+    private static Supplier<AlphaBetaSearcher> searchers(TranspositionTable table) {
+        return () -> searcher(table);
+    }
+
+    private static AlphaBetaSearcher searcher(TranspositionTable table) {
+        var validator = new BasicMoveValidator();
+        return new AlphaBetaSearcher(new LegalMoveGenerator(), validator, validator, new MaterialEvaluator(), table);
+    }
+}
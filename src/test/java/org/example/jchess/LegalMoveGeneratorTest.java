@@ -0,0 +1,106 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+public class LegalMoveGeneratorTest {
+
+    private BasicMoveValidator validator;
+    private LegalMoveGenerator generator;
+
+    @Before
+    public void setUp() {
+        validator = new BasicMoveValidator();
+        generator = new LegalMoveGenerator();
+    }
+
+    @Test
+    public void newGameShouldGenerate20Moves() {
+        Assert.assertEquals(20, generator.generateValidMoves(Fen.parse(Fen.STARTING_POSITION)).size());
+    }
+
+    @Test
+    public void shouldOnlyMoveKingUnderDoubleCheck() {
+        var snapshot = Fen.parse("4k3/8/8/8/8/5n2/3Q4/r3K3 w - - 0 1");
+        var result = generator.generateValidMoves(snapshot);
+
+        Assert.assertFalse(result.isEmpty());
+        Assert.assertTrue(result.stream().allMatch(m -> m.getPiece() == Piece.KING));
+    }
+
+    @Test
+    public void shouldBlockOrCaptureUnderSingleCheck() {
+        // The rook on a1 checks along the first rank and the queen can only step in between on c1 or d1
+        var snapshot = Fen.parse("4k3/8/8/8/8/8/3Q4/r3K3 w - - 0 1");
+        var queenTargets = new HashSet<String>();
+
+        for (Move move : generator.generateValidMoves(snapshot)) {
+            if (move.getPiece() == Piece.QUEEN) {
+                queenTargets.add(Notation.toSquare(move.getTo()));
+            }
+        }
+
+        Assert.assertEquals(new HashSet<>(List.of("c1", "d1")), queenTargets);
+    }
+
+    @Test
+    public void shouldKeepPinnedPiecesOnTheirRay() {
+        var snapshot = Fen.parse("4k3/4r3/8/8/8/8/4R3/4K3 w - - 0 1");
+
+        for (Move move : generator.generateValidMoves(snapshot)) {
+            if (move.getPiece() == Piece.ROOK) {
+                Assert.assertEquals(4, move.getTo().getX());
+            }
+        }
+    }
+
+    @Test
+    public void shouldRejectEnPassantExposingTheKing() {
+        // Capturing on c6 would take both pawns off the fifth rank and open it for the rook
+        var snapshot = Fen.parse("8/8/8/KPp4r/8/8/8/7k w - c6 0 1");
+        var enPassant = new Move(new Position(1, 3), new Position(2, 2), Piece.PAWN, Color.WHITE, Optional.empty());
+
+        Assert.assertFalse(generator.generateValidMoves(snapshot).contains(enPassant));
+        Assert.assertFalse(validator.isValid(snapshot, enPassant));
+    }
+
+    @Test
+    public void shouldMatchPerftReferenceCounts() {
+        var perft = new Perft(generator, validator);
+
+        Assert.assertEquals(197281, perft.countNodes(Fen.parse(Fen.STARTING_POSITION), 4));
+        Assert.assertEquals(97862, perft.countNodes(Fen.parse("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"), 3));
+        Assert.assertEquals(43238, perft.countNodes(Fen.parse("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"), 4));
+        Assert.assertEquals(9467, perft.countNodes(Fen.parse("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"), 3));
+        Assert.assertEquals(62379, perft.countNodes(Fen.parse("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8"), 3));
+        Assert.assertEquals(89890, perft.countNodes(Fen.parse("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10"), 3));
+    }
+
+    @Test
+    public void shouldAgreeWithPseudoLegalGenerator() {
+        var pseudoLegalGenerator = new PseudoLegalMoveGenerator(validator);
+        var random = new Random(3);
+
+        for (int game = 0; game < 5; game++) {
+            var snapshot = Fen.parse(Fen.STARTING_POSITION);
+
+            for (int ply = 0; ply < 150; ply++) {
+                var expected = pseudoLegalGenerator.generateValidMoves(snapshot);
+                var actual = generator.generateValidMoves(snapshot);
+
+                Assert.assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+                Assert.assertEquals(expected.size(), actual.size());
+
+                if (actual.isEmpty()) {
+                    break;
+                }
+
+                snapshot = validator.applyMove(snapshot, actual.get(random.nextInt(actual.size())));
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class MoveHistoryTest {
+
+    private final Move first = new Move(new Position(4, 6), new Position(4, 4), Piece.PAWN, Color.WHITE, Optional.empty());
+    private final Move second = new Move(new Position(4, 1), new Position(4, 3), Piece.PAWN, Color.BLACK, Optional.empty());
+    private final Move third = new Move(new Position(6, 7), new Position(5, 5), Piece.KNIGHT, Color.WHITE, Optional.empty());
+
+    @Test
+    public void shouldKeepMovesInOrder() {
+        var history = MoveHistory.empty().append(first).append(second).append(third);
+
+        Assert.assertEquals(3, history.size());
+        Assert.assertEquals(List.of(first, second, third), history.toList());
+        Assert.assertEquals(Optional.of(first), history.getFirst());
+        Assert.assertEquals(Optional.of(third), history.getLast());
+
+        var iterated = new ArrayList<Move>();
+        history.forEach(iterated::add);
+        Assert.assertEquals(List.of(first, second, third), iterated);
+    }
+
+    @Test
+    public void appendingShouldNotChangeSharedPrefix() {
+        var prefix = MoveHistory.of(List.of(first, second));
+        var branch = prefix.append(third);
+        var otherBranch = prefix.append(first);
+
+        Assert.assertEquals(2, prefix.size());
+        Assert.assertEquals(Optional.of(third), branch.getLast());
+        Assert.assertEquals(Optional.of(first), otherBranch.getLast());
+        Assert.assertEquals(Optional.of(second), prefix.getLast());
+    }
+
+    @Test
+    public void branchesShouldKeepTheirOwnMovesAcrossChunks() {
+        var expected = new ArrayList<Move>();
+        var history = MoveHistory.empty();
+
+        for (int i = 0; i < 70; i++) {
+            Move move = i % 2 == 0 ? first : second;
+            expected.add(move);
+            history = history.append(move);
+        }
+
+        var branch = history.append(third);
+        var otherBranch = history.append(first);
+        var deeper = otherBranch.append(third);
+
+        Assert.assertEquals(expected, history.toList());
+        Assert.assertEquals(Optional.of(third), branch.getLast());
+        Assert.assertEquals(Optional.of(first), otherBranch.getLast());
+        Assert.assertEquals(Optional.of(third), deeper.getLast());
+        Assert.assertEquals(expected, deeper.toList().subList(0, 70));
+        Assert.assertEquals(Optional.of(first), deeper.getFirst());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void listShouldBeUnmodifiable() {
+        MoveHistory.of(List.of(first)).toList().add(second);
+    }
+
+    @Test
+    public void emptyHistoryShouldHaveNoMoves() {
+        var history = MoveHistory.empty();
+
+        Assert.assertTrue(history.isEmpty());
+        Assert.assertEquals(Optional.empty(), history.getFirst());
+        Assert.assertEquals(Optional.empty(), history.getLast());
+        Assert.assertEquals(List.of(), history.toList());
+    }
+}
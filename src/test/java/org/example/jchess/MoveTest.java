@@ -0,0 +1,51 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.Optional;
+
+public class MoveTest {
+
+    @Test
+    public void positionsOnTheBoardShouldBeShared() {
+        Assert.assertSame(Position.of(3, 4), Position.of(3, 4));
+        Assert.assertSame(Position.of(3, 4), Position.of(4 * 8 + 3));
+        Assert.assertEquals(new Position(3, 4), Position.of(3, 4));
+        Assert.assertEquals(new Position(9, -1), Position.of(9, -1));
+    }
+
+    @Test
+    public void internedMovesShouldEqualConstructedMoves() {
+        Move constructed = new Move(new Position(6, 7), new Position(5, 5), Piece.KNIGHT, Color.WHITE, Optional.empty());
+        Move interned = Move.of(Position.of(6, 7), Position.of(5, 5), Piece.KNIGHT, Color.WHITE, Optional.empty());
+
+        Assert.assertEquals(constructed, interned);
+        Assert.assertEquals(constructed.hashCode(), interned.hashCode());
+        Assert.assertSame(interned, Move.of(7 * 8 + 6, 5 * 8 + 5, Piece.KNIGHT, Color.WHITE));
+    }
+
+    @Test
+    public void promotionsShouldBeInternedSeparately() {
+        Move queen = Move.of(Position.of(0, 1), Position.of(0, 0), Piece.PAWN, Color.WHITE, Optional.of(Piece.QUEEN));
+        Move knight = Move.of(8, 0, Color.WHITE, Piece.KNIGHT);
+
+        Assert.assertSame(queen, Move.of(8, 0, Color.WHITE, Piece.QUEEN));
+        Assert.assertEquals(Optional.of(Piece.KNIGHT), knight.getPromotedTo());
+        Assert.assertNotEquals(queen, knight);
+        Assert.assertNotEquals(queen, Move.of(8, 0, Piece.PAWN, Color.WHITE));
+        Assert.assertNotEquals(queen, Move.of(8, 0, Color.BLACK, Piece.QUEEN));
+    }
+
+    @Test
+    public void generatedMovesShouldBeShared() {
+        var generator = new LegalMoveGenerator();
+        var snapshot = Fen.parse(Fen.STARTING_POSITION);
+
+        var first = generator.generateValidMoves(snapshot);
+        var second = generator.generateValidMoves(snapshot);
+
+        for (int i = 0; i < first.size(); i++) {
+            Assert.assertSame(first.get(i), second.get(i));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.jchess;
+
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+public class OpeningBookTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final BasicMoveValidator validator = new BasicMoveValidator();
+    private final LegalMoveGenerator generator = new LegalMoveGenerator();
+
+    private final Move e4 = move(4, 6, 4, 4, Piece.PAWN, Color.WHITE);
+    private final Move d4 = move(3, 6, 3, 4, Piece.PAWN, Color.WHITE);
+    private final Move e5 = move(4, 1, 4, 3, Piece.PAWN, Color.BLACK);
+    private final Move c5 = move(2, 1, 2, 3, Piece.PAWN, Color.BLACK);
+    private final Move d5 = move(3, 1, 3, 3, Piece.PAWN, Color.BLACK);
+
+    @Test
+    public void shouldPickOnlyBookMovesByWeight() throws IOException {
+        OpeningBook book = build(List.of(List.of(e4, e5), List.of(e4, c5), List.of(e4, e5), List.of(d4, d5)), 8);
+        BoardSnapshot start = new Board(validator).getSnapshot();
+        SplittableRandom random = new SplittableRandom(1);
+        int e4Picks = 0;
+
+        for (int i = 0; i < 1000; i++) {
+            Move move = book.pick(start, random).orElseThrow();
+            Assert.assertTrue(move.equals(e4) || move.equals(d4));
+            e4Picks += move.equals(e4) ? 1 : 0;
+        }
+
+        // Three games out of four start with e4
+        Assert.assertTrue(e4Picks > 650 && e4Picks < 850);
+        Assert.assertEquals(List.of(e4, d4), book.getMoves(start));
+        Assert.assertEquals(new HashSet<>(List.of(e5, c5)), new HashSet<>(book.getMoves(validator.applyMove(start, e4))));
+    }
+
+    @Test
+    public void shouldMissOutsideTheBook() throws IOException {
+        OpeningBook book = build(List.of(List.of(e4, e5)), 1);
+        BoardSnapshot afterE4 = validator.applyMove(new Board(validator).getSnapshot(), e4);
+
+        // Only the first ply was kept
+        Assert.assertEquals(Optional.empty(), book.pick(afterE4, new SplittableRandom(1)));
+        Assert.assertEquals(1, book.size());
+    }
+
+    @Test
+    public void shouldHandlePromotions() throws IOException {
+        BoardSnapshot start = Fen.parse("1n2k3/P7/8/8/8/8/8/4K3 w - - 0 1");
+        Move promotion = new Move(new Position(0, 1), new Position(1, 0), Piece.PAWN, Color.WHITE, Optional.of(Piece.KNIGHT));
+
+        OpeningBookBuilder builder = new OpeningBookBuilder(validator, 4);
+        builder.add(start, List.of(promotion));
+        Path path = folder.newFile("promotion.bin").toPath();
+        builder.write(path);
+
+        Assert.assertEquals(List.of(promotion), new OpeningBook(path).getMoves(start));
+    }
+
+    @Test
+    public void decoratorShouldFallBackWhenOutOfBook() throws IOException {
+        OpeningBook book = build(List.of(List.of(e4, e5, d4)), 8);
+
+        Board whiteBoard = new Board(validator);
+        Player white = new BookPlayerDecorator(new ChaoticPlayer(whiteBoard, generator, 3), book, new Board(validator), 7);
+        Player black = new ChaoticPlayer(new Board(validator), generator, 4);
+
+        Assert.assertEquals(e4, white.obtainNextMove());
+        black.registerMove(e4);
+        white.registerMove(e5);
+
+        Assert.assertEquals(d4, white.obtainNextMove());
+        Assert.assertTrue(((BookPlayerDecorator) white).isInBook());
+
+        white.registerMove(move(1, 0, 2, 2, Piece.KNIGHT, Color.BLACK));
+        Move fallback = white.obtainNextMove();
+
+        Assert.assertFalse(((BookPlayerDecorator) white).isInBook());
+        // The wrapped player was kept in sync with the book moves, so its move is legal in the real position
+        Assert.assertEquals(5, whiteBoard.getSnapshot().getMovesHistory().size());
+        Assert.assertEquals(fallback, whiteBoard.getSnapshot().getLastMove().orElseThrow());
+    }
+
+    private OpeningBook build(List<List<Move>> games, int maxPlies) throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(validator, maxPlies);
+
+        for (List<Move> game : games) {
+            builder.add(new Board(validator).getSnapshot(), new ArrayList<>(game));
+        }
+
+        Path path = folder.newFile().toPath();
+        builder.write(path);
+        return new OpeningBook(path);
+    }
+
+    private static Move move(int srcX, int srcY, int destX, int destY, Piece piece, Color color) {
+        return new Move(new Position(srcX, srcY), new Position(destX, destY), piece, color, Optional.empty());
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+// Reference node counts from https://www.chessprogramming.org/Perft_Results
+public class PerftTest {
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+    private static final String POSITION_4 = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+    private static final String POSITION_5 = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+    private static final String POSITION_6 = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+
+    private Perft perft;
+
+    @Before
+    public void setUp() {
+        var validator = new BasicMoveValidator();
+        perft = new Perft(new PseudoLegalMoveGenerator(validator), validator);
+    }
+
+    @Test
+    public void startingPosition() {
+        var snapshot = Fen.parse(Fen.STARTING_POSITION);
+
+        Assert.assertEquals(20, perft.countNodes(snapshot, 1));
+        Assert.assertEquals(400, perft.countNodes(snapshot, 2));
+        Assert.assertEquals(8902, perft.countNodes(snapshot, 3));
+        Assert.assertEquals(197281, perft.countNodes(snapshot, 4));
+    }
+
+    @Test
+    public void kiwipete() {
+        var snapshot = Fen.parse(KIWIPETE);
+
+        Assert.assertEquals(48, perft.countNodes(snapshot, 1));
+        Assert.assertEquals(2039, perft.countNodes(snapshot, 2));
+        Assert.assertEquals(97862, perft.countNodes(snapshot, 3));
+    }
+
+    @Test
+    public void position3() {
+        var snapshot = Fen.parse(POSITION_3);
+
+        Assert.assertEquals(14, perft.countNodes(snapshot, 1));
+        Assert.assertEquals(191, perft.countNodes(snapshot, 2));
+        Assert.assertEquals(2812, perft.countNodes(snapshot, 3));
+        Assert.assertEquals(43238, perft.countNodes(snapshot, 4));
+    }
+
+    @Test
+    public void position4() {
+        var snapshot = Fen.parse(POSITION_4);
+
+        Assert.assertEquals(6, perft.countNodes(snapshot, 1));
+        Assert.assertEquals(264, perft.countNodes(snapshot, 2));
+        Assert.assertEquals(9467, perft.countNodes(snapshot, 3));
+    }
+
+    @Test
+    public void position5() {
+        var snapshot = Fen.parse(POSITION_5);
+
+        Assert.assertEquals(44, perft.countNodes(snapshot, 1));
+        Assert.assertEquals(1486, perft.countNodes(snapshot, 2));
+        Assert.assertEquals(62379, perft.countNodes(snapshot, 3));
+    }
+
+    @Test
+    public void position6() {
+        var snapshot = Fen.parse(POSITION_6);
+
+        Assert.assertEquals(46, perft.countNodes(snapshot, 1));
+        Assert.assertEquals(2079, perft.countNodes(snapshot, 2));
+        Assert.assertEquals(89890, perft.countNodes(snapshot, 3));
+    }
+
+    @Test
+    public void blackToMove() {
+        // Position 4 mirrored, which must give the same counts with black to move
+        var snapshot = Fen.parse("r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1");
+
+        Assert.assertEquals(6, perft.countNodes(snapshot, 1));
+        Assert.assertEquals(264, perft.countNodes(snapshot, 2));
+        Assert.assertEquals(9467, perft.countNodes(snapshot, 3));
+    }
+
+    @Test
+    public void divideShouldSumToNodeCount() {
+        var snapshot = Fen.parse(KIWIPETE);
+        var divided = perft.divide(snapshot, 2);
+
+        Assert.assertEquals(48, divided.size());
+        Assert.assertEquals(2039, divided.values().stream().mapToLong(Long::longValue).sum());
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class PgnReaderTest {
+
+    private static final String GAMES = "[Event \"Casual\"]\n" +
+            "[White \"Anderssen\"]\n" +
+            "[Black \"Kieseritzky\"]\n" +
+            "[Result \"1-0\"]\n" +
+            "\n" +
+            "1. e4 e5 2. f4 exf4 3. Bc4 Qh4+ 4. Kf1 b5 {A romantic gambit} 5. Bxb5 Nf6 6. Nf3\n" +
+            "Qh6 7. d3 Nh5 8. Nh4 Qg5 (8... g6 9. Nf5) 9. Nf5 c6 10. g4 Nf6 11. Rg1 cxb5\n" +
+            "12. h4 Qg6 13. h5 Qg5 14. Qf3 Ng8 15. Bxf4 Qf6 16. Nc3 Bc5 17. Nd5 Qxb2 18. Bd6\n" +
+            "Bxg1 19. e5 Qxa1+ 20. Ke2 Na6 21. Nxg7+ Kd8 22. Qf6+ Nxf6 23. Be7# 1-0\n" +
+            "\n" +
+            "[Event \"Short\"]\n" +
+            "[Result \"0-1\"]\n" +
+            "\n" +
+            "1.f3 e5 2.g4 $4 Qh4# 0-1\n" +
+            "\n" +
+            "[Event \"Setup\"]\n" +
+            "[FEN \"4k3/8/8/8/8/8/4P3/4K3 b - - 0 30\"]\n" +
+            "[Result \"*\"]\n" +
+            "\n" +
+            "30... Kd7 31. e4 ; a line comment\n" +
+            "*\n";
+
+    @Test
+    public void shouldReadGamesWithCommentsAndVariations() {
+        List<PgnGame> games = read(GAMES, false);
+
+        Assert.assertEquals(3, games.size());
+        Assert.assertEquals(45, games.get(0).getMoves().size());
+        Assert.assertEquals("1-0", games.get(0).getResult());
+        Assert.assertEquals("Kieseritzky", games.get(0).getTag("Black").orElseThrow());
+
+        Assert.assertEquals(4, games.get(1).getMoves().size());
+        Assert.assertEquals(PgnGame.BLACK_WINS, games.get(1).getResult());
+
+        Assert.assertEquals(2, games.get(2).getMoves().size());
+        Assert.assertEquals(Color.BLACK, games.get(2).getMoves().get(0).getColor());
+    }
+
+    @Test
+    public void lastMoveShouldDeliverMate() {
+        PgnGame game = read(GAMES, false).get(0);
+        BasicMoveValidator validator = new BasicMoveValidator();
+        BasicEngine engine = new BasicEngine(validator, new LegalMoveGenerator(), validator);
+
+        BoardSnapshot snapshot = game.getStartingPosition();
+        for (Move move : game.getMoves()) {
+            snapshot = validator.applyMove(snapshot, move);
+        }
+
+        Assert.assertEquals(GameState.CHECKMATE, engine.analyseBoard(snapshot).getGameState());
+    }
+
+    @Test
+    public void writerOutputShouldReadBackToSameGames() throws IOException {
+        List<PgnGame> games = read(GAMES, false);
+        StringWriter output = new StringWriter();
+        BasicMoveValidator validator = new BasicMoveValidator();
+
+        try (PgnWriter writer = new PgnWriter(output, new LegalMoveGenerator(), validator)) {
+            for (PgnGame game : games) {
+                writer.write(game);
+            }
+        }
+
+        List<PgnGame> reread = read(output.toString(), false);
+
+        Assert.assertEquals(games.size(), reread.size());
+        for (int i = 0; i < games.size(); i++) {
+            Assert.assertEquals(games.get(i).getMoves(), reread.get(i).getMoves());
+            Assert.assertEquals(games.get(i).getResult(), reread.get(i).getResult());
+        }
+
+        Assert.assertTrue(output.toString().startsWith("[Event \"Casual\"]\n[Site \"?\"]"));
+        Assert.assertTrue(output.toString().contains("30... Kd7 31. e4 *"));
+    }
+
+    @Test
+    public void parallelReadShouldMatchSequentialRead() {
+        StringBuilder many = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            many.append(GAMES).append('\n');
+        }
+
+        Assert.assertEquals(read(many.toString(), false), read(many.toString(), true));
+    }
+
+    @Test
+    public void shouldExportPlayedGame() throws IOException {
+        BasicMoveValidator validator = new BasicMoveValidator();
+        LegalMoveGenerator generator = new LegalMoveGenerator();
+        Board board = new Board(validator);
+        ChessGame game = new ChessGame(new ChaoticPlayer(new Board(validator), generator, 1),
+                new ChaoticPlayer(new Board(validator), generator, 2),
+                new BasicEngine(validator, generator, validator), board, new NullRenderer(), 60);
+        game.run();
+
+        PgnGame pgn = new PgnGame(Map.of("Event", "Self-play"), board.getSnapshot().getMovesHistory(),
+                PgnGame.resultOf(game.getReport().orElseThrow()));
+        StringWriter output = new StringWriter();
+
+        try (PgnWriter writer = new PgnWriter(output, generator, validator)) {
+            writer.write(pgn);
+        }
+
+        Assert.assertEquals(pgn.getMoves(), read(output.toString(), false).get(0).getMoves());
+    }
+
+    private List<PgnGame> read(String pgn, boolean parallel) {
+        PgnReader reader = new PgnReader(new StringReader(pgn));
+        var games = reader.games();
+        return new ArrayList<>((parallel ? games.parallel() : games).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.List;
+import java.util.Optional;
+
+public class PieceSquareTablesTest {
+
+    private final BasicMoveValidator validator = new BasicMoveValidator();
+    private final LegalMoveGenerator generator = new LegalMoveGenerator();
+
+    @Test
+    public void shouldPackBothHalvesOfAScore() {
+        for (int[] halves : new int[][]{{0, 0}, {-5, 7}, {3, -9}, {-1025, -936}, {8000, -8000}}) {
+            int score = PieceSquareTables.pack(halves[0], halves[1]);
+
+            Assert.assertEquals(halves[0], PieceSquareTables.middlegame(score));
+            Assert.assertEquals(halves[1], PieceSquareTables.endgame(score));
+        }
+    }
+
+    @Test
+    public void startingPositionShouldBeBalanced() {
+        BoardSnapshot start = new Board(validator).getSnapshot();
+
+        Assert.assertEquals(0, start.getScore());
+        Assert.assertEquals(PieceSquareTables.MAX_PHASE, PieceSquareTables.phase(start.getBitboard()));
+        Assert.assertEquals(0, new PieceSquareEvaluator().evaluate(start));
+    }
+
+    @Test
+    public void mirroredPositionsShouldEvaluateOpposite() {
+        BoardSnapshot position = Fen.parse("r1bqk2r/pppp1ppp/2n2n2/2b1p3/2B1P3/3P1N2/PPP2PPP/RNBQK2R w KQkq - 1 5");
+        BoardSnapshot mirrored = Fen.parse("rnbqk2r/ppp2ppp/3p1n2/2b1p3/2B1P3/2N2N2/PPPP1PPP/R1BQK2R b KQkq - 1 5");
+
+        Assert.assertEquals(-position.getEvaluation(), mirrored.getEvaluation());
+        Assert.assertEquals(new PieceSquareEvaluator().evaluate(position), new PieceSquareEvaluator().evaluate(mirrored));
+    }
+
+    @Test
+    public void incrementalScoreShouldMatchFullComputation() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Board board = new Board(validator);
+            ChaoticPlayer player = new ChaoticPlayer(board, generator, seed);
+
+            for (int ply = 0; ply < 300 && !generator.generateValidMoves(board.getSnapshot()).isEmpty(); ply++) {
+                player.obtainNextMove();
+                BoardSnapshot snapshot = board.getSnapshot();
+
+                Assert.assertEquals(PieceSquareTables.compute(snapshot.getBitboard()), snapshot.getScore());
+            }
+        }
+    }
+
+    @Test
+    public void incrementalScoreShouldFollowSpecialMoves() {
+        // Castling, en passant and promotion with capture each touch more than two squares
+        BoardSnapshot snapshot = Fen.parse("r3k2r/1P6/8/8/3pP3/8/8/R3K2R b KQkq e3 0 1");
+        List<Move> moves = List.of(
+                Move.of(Position.of(3, 4), Position.of(4, 5), Piece.PAWN, Color.BLACK, Optional.empty()),
+                Move.of(Position.of(4, 7), Position.of(2, 7), Piece.KING, Color.WHITE, Optional.empty()),
+                Move.of(Position.of(4, 0), Position.of(6, 0), Piece.KING, Color.BLACK, Optional.empty()),
+                Move.of(Position.of(1, 1), Position.of(0, 0), Piece.PAWN, Color.WHITE, Optional.of(Piece.QUEEN)));
+
+        for (Move move : moves) {
+            Assert.assertTrue(validator.isValid(snapshot, move));
+            snapshot = validator.applyMove(snapshot, move);
+            Assert.assertEquals(PieceSquareTables.compute(snapshot.getBitboard()), snapshot.getScore());
+        }
+    }
+
+    @Test
+    public void endgamesShouldUseEndgameValues() {
+        BoardSnapshot snapshot = Fen.parse("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1");
+
+        Assert.assertEquals(0, PieceSquareTables.phase(snapshot.getBitboard()));
+        Assert.assertEquals(PieceSquareTables.endgame(snapshot.getScore()), snapshot.getEvaluation());
+    }
+
+    @Test
+    public void engineShouldReportScores() {
+        BasicEngine engine = new BasicEngine(validator, generator, validator);
+
+        Assert.assertTrue(engine.analyseBoard(Fen.parse("rnb1kbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR b KQkq - 0 1")).getScore() > 800);
+        Assert.assertEquals(-Searcher.MATE, engine.analyseBoard(Fen.parse("rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3")).getScore());
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class PseudoLegalMoveGeneratorTest {
+
+    private BasicMoveValidator validator;
+    private PseudoLegalMoveGenerator generator;
+
+    @Before
+    public void setUp() {
+        validator = new BasicMoveValidator();
+        generator = new PseudoLegalMoveGenerator(validator);
+    }
+
+    @Test
+    public void newGameShouldGenerate20Moves() {
+        var board = BoardHelper.getStartingBoard();
+        var result = generator.generateValidMoves(new BoardSnapshot(board, new ArrayList<>()));
+        Assert.assertEquals(20, result.size());
+    }
+
+    @Test
+    public void shouldOnlyGenerateMovesForPlayerToMove() {
+        var board = BoardHelper.getStartingBoard();
+        var result = generator.generatePseudoLegalMoves(new BoardSnapshot(board, new ArrayList<>()));
+        Assert.assertTrue(result.stream().allMatch(m -> m.getColor() == Color.WHITE));
+    }
+
+    @Test
+    public void shouldGenerateAllPromotions() {
+        var board = BoardHelper.getEmptyBoard();
+        board.get(7).set(4, Optional.of(new OccupiedTile(Piece.KING, Color.WHITE)));
+        board.get(0).set(0, Optional.of(new OccupiedTile(Piece.KING, Color.BLACK)));
+        board.get(1).set(6, Optional.of(new OccupiedTile(Piece.PAWN, Color.WHITE)));
+
+        var result = generator.generateValidMoves(new BoardSnapshot(board, new ArrayList<>()));
+        var promotions = result.stream()
+                               .filter(m -> m.getPiece() == Piece.PAWN)
+                               .map(m -> m.getPromotedTo().get())
+                               .collect(Collectors.toSet());
+
+        Assert.assertEquals(new HashSet<>(List.of(Piece.QUEEN, Piece.ROOK, Piece.BISHOP, Piece.KNIGHT)), promotions);
+    }
+
+    @Test
+    public void shouldGenerateCastlingAndEnPassant() {
+        var board = BoardHelper.getEmptyBoard();
+        board.get(7).set(4, Optional.of(new OccupiedTile(Piece.KING, Color.WHITE)));
+        board.get(7).set(7, Optional.of(new OccupiedTile(Piece.ROOK, Color.WHITE)));
+        board.get(0).set(4, Optional.of(new OccupiedTile(Piece.KING, Color.BLACK)));
+        board.get(3).set(4, Optional.of(new OccupiedTile(Piece.PAWN, Color.WHITE)));
+        board.get(1).set(3, Optional.of(new OccupiedTile(Piece.PAWN, Color.BLACK)));
+
+        var whiteMove = new Move(new Position(7, 7), new Position(7, 6), Piece.ROOK, Color.WHITE, Optional.empty());
+        var blackMove = new Move(new Position(3, 1), new Position(3, 3), Piece.PAWN, Color.BLACK, Optional.empty());
+        var whiteBack = new Move(new Position(7, 6), new Position(7, 7), Piece.ROOK, Color.WHITE, Optional.empty());
+        var blackKing = new Move(new Position(4, 0), new Position(4, 1), Piece.KING, Color.BLACK, Optional.empty());
+
+        var snapshot = validator.applyMove(new BoardSnapshot(board, new ArrayList<>()), whiteMove);
+        snapshot = validator.applyMove(snapshot, blackMove);
+        var result = generator.generateValidMoves(snapshot);
+
+        var enPassant = new Move(new Position(4, 3), new Position(3, 2), Piece.PAWN, Color.WHITE, Optional.empty());
+        Assert.assertTrue(result.contains(enPassant));
+
+        snapshot = new BoardSnapshot(board, new ArrayList<>());
+        result = generator.generateValidMoves(snapshot);
+
+        var castling = new Move(new Position(4, 7), new Position(6, 7), Piece.KING, Color.WHITE, Optional.empty());
+        Assert.assertTrue(result.contains(castling));
+
+        snapshot = validator.applyMove(validator.applyMove(validator.applyMove(snapshot, whiteMove), blackKing), whiteBack);
+        snapshot = validator.applyMove(snapshot, new Move(new Position(4, 1), new Position(4, 0), Piece.KING, Color.BLACK, Optional.empty()));
+        result = generator.generateValidMoves(snapshot);
+
+        Assert.assertFalse(result.contains(castling));
+    }
+
+    @Test
+    public void shouldAgreeWithBasicGenerator() {
+        var basicGenerator = new BasicMoveGenerator(validator);
+        var random = new Random(42);
+        var snapshot = new BoardSnapshot(BoardHelper.getStartingBoard(), new ArrayList<>());
+
+        for (int ply = 0; ply < 80; ply++) {
+            var expected = new HashSet<>(basicGenerator.generateValidMoves(snapshot));
+            var actual = generator.generateValidMoves(snapshot);
+
+            // The basic generator only ever proposes queen promotions
+            var comparable = actual.stream()
+                                   .filter(m -> m.getPromotedTo().map(p -> p == Piece.QUEEN).orElse(true))
+                                   .collect(Collectors.toSet());
+
+            Assert.assertEquals(expected, comparable);
+
+            if (actual.isEmpty()) {
+                break;
+            }
+
+            snapshot = validator.applyMove(snapshot, actual.get(random.nextInt(actual.size())));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.Optional;
+import java.util.Random;
+
+public class SanTest {
+
+    private BasicMoveValidator validator;
+    private LegalMoveGenerator generator;
+    private San san;
+
+    @Before
+    public void setUp() {
+        validator = new BasicMoveValidator();
+        generator = new LegalMoveGenerator();
+        san = new San(generator, validator);
+    }
+
+    @Test
+    public void shouldParsePawnAndPieceMoves() {
+        var snapshot = Fen.parse(Fen.STARTING_POSITION);
+
+        Assert.assertEquals(move(4, 6, 4, 4, Piece.PAWN, Color.WHITE), san.parse("e4", snapshot));
+        Assert.assertEquals(move(6, 7, 5, 5, Piece.KNIGHT, Color.WHITE), san.parse("Nf3", snapshot));
+        Assert.assertEquals("Nf3", san.format(move(6, 7, 5, 5, Piece.KNIGHT, Color.WHITE), snapshot));
+    }
+
+    @Test
+    public void shouldHandleCastlingPromotionAndEnPassant() {
+        var castling = Fen.parse("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1");
+        Assert.assertEquals(move(4, 7, 6, 7, Piece.KING, Color.WHITE), san.parse("O-O", castling));
+        Assert.assertEquals("O-O-O", san.format(move(4, 7, 2, 7, Piece.KING, Color.WHITE), castling));
+
+        var promotion = Fen.parse("1n2k3/P7/8/8/8/8/8/4K3 w - - 0 1");
+        var capture = new Move(new Position(0, 1), new Position(1, 0), Piece.PAWN, Color.WHITE, Optional.of(Piece.QUEEN));
+        Assert.assertEquals(capture, san.parse("axb8=Q", promotion));
+        Assert.assertEquals("axb8=Q+", san.format(capture, promotion));
+        Assert.assertEquals(capture, san.parse("axb8Q+", promotion));
+
+        var enPassant = Fen.parse("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1");
+        Assert.assertEquals("exd6", san.format(move(4, 3, 3, 2, Piece.PAWN, Color.WHITE), enPassant));
+    }
+
+    @Test
+    public void shouldDisambiguateByFileRankOrBoth() {
+        var snapshot = Fen.parse("4k3/8/8/8/8/1N3N2/8/1N2K3 w - - 0 1");
+
+        Assert.assertEquals("Nfd2", san.format(move(5, 5, 3, 6, Piece.KNIGHT, Color.WHITE), snapshot));
+        Assert.assertEquals("N1d2", san.format(move(1, 7, 3, 6, Piece.KNIGHT, Color.WHITE), snapshot));
+        Assert.assertEquals("Nb3d2", san.format(move(1, 5, 3, 6, Piece.KNIGHT, Color.WHITE), snapshot));
+        Assert.assertEquals(move(1, 7, 3, 6, Piece.KNIGHT, Color.WHITE), san.parse("N1d2", snapshot));
+    }
+
+    @Test
+    public void shouldMarkMate() {
+        var snapshot = Fen.parse("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+
+        Assert.assertEquals("Ra8#", san.format(move(0, 7, 0, 0, Piece.ROOK, Color.WHITE), snapshot));
+    }
+
+    @Test
+    public void formatAndParseShouldRoundTrip() {
+        var random = new Random(11);
+
+        for (int game = 0; game < 5; game++) {
+            var snapshot = Fen.parse(Fen.STARTING_POSITION);
+
+            for (int ply = 0; ply < 120; ply++) {
+                var moves = generator.generateValidMoves(snapshot);
+
+                if (moves.isEmpty()) {
+                    break;
+                }
+
+                for (Move move : moves) {
+                    Assert.assertEquals(move, san.parse(san.format(move, snapshot), snapshot));
+                }
+
+                snapshot = validator.applyMove(snapshot, moves.get(random.nextInt(moves.size())));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectAmbiguousMove() {
+        san.parse("Nd2", Fen.parse("4k3/8/8/8/8/1N3N2/8/1N2K3 w - - 0 1"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectIllegalMove() {
+        san.parse("e5", Fen.parse(Fen.STARTING_POSITION));
+    }
+
+    private static Move move(int srcX, int srcY, int destX, int destY, Piece piece, Color color) {
+        return new Move(new Position(srcX, srcY), new Position(destX, destY), piece, color, Optional.empty());
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Random;
+
+public class SearchPositionTest {
+
+    private BasicMoveValidator validator;
+    private MoveGenerator generator;
+
+    @Before
+    public void setUp() {
+        validator = new BasicMoveValidator();
+        generator = new PseudoLegalMoveGenerator(validator);
+    }
+
+    @Test
+    public void makeMoveShouldMatchApplyMoveAndUnmakeShouldRestore() {
+        var random = new Random(7);
+        var snapshot = new BoardSnapshot(BoardHelper.getStartingBoard(), new ArrayList<>());
+
+        for (int ply = 0; ply < 120; ply++) {
+            var moves = generator.generateValidMoves(snapshot);
+
+            if (moves.isEmpty()) {
+                break;
+            }
+
+            var position = SearchPosition.of(snapshot);
+            var board = position.toBitboard();
+            int castlingRights = position.getCastlingRights();
+            int enPassantSquare = position.getEnPassantSquare();
+            long key = position.getKey();
+            int score = position.getScore();
+
+            for (Move move : moves) {
+                position.makeMove(move);
+                var expected = validator.applyMove(snapshot, move);
+                Assert.assertEquals(expected.getBitboard(), position.toBitboard());
+                Assert.assertEquals(expected.getKey(), position.getKey());
+                Assert.assertEquals(expected.getScore(), position.getScore());
+                position.unmakeMove();
+
+                Assert.assertEquals(key, position.getKey());
+                Assert.assertEquals(score, position.getScore());
+                Assert.assertEquals(board, position.toBitboard());
+                Assert.assertEquals(castlingRights, position.getCastlingRights());
+                Assert.assertEquals(enPassantSquare, position.getEnPassantSquare());
+                Assert.assertEquals(0, position.getPly());
+            }
+
+            snapshot = validator.applyMove(snapshot, moves.get(random.nextInt(moves.size())));
+        }
+    }
+
+    @Test
+    public void shouldTrackCastlingRightsAndEnPassantSquare() {
+        var position = SearchPosition.of(new BoardSnapshot(BoardHelper.getStartingBoard(), new ArrayList<>()));
+        Assert.assertEquals(CastlingRights.ALL, position.getCastlingRights());
+
+        position.makeMove(new Move(new Position(4, 6), new Position(4, 4), Piece.PAWN, Color.WHITE, Optional.empty()));
+        Assert.assertEquals(Bitboard.square(4, 5), position.getEnPassantSquare());
+        Assert.assertEquals(Color.BLACK, position.getSideToMove());
+
+        position.makeMove(new Move(new Position(7, 0), new Position(7, 2), Piece.ROOK, Color.BLACK, Optional.empty()));
+        Assert.assertEquals(Bitboard.NO_SQUARE, position.getEnPassantSquare());
+        Assert.assertEquals(CastlingRights.ALL & ~CastlingRights.BLACK_KINGSIDE, position.getCastlingRights());
+
+        position.unmakeMove();
+        position.unmakeMove();
+        Assert.assertEquals(CastlingRights.ALL, position.getCastlingRights());
+        Assert.assertEquals(Color.WHITE, position.getSideToMove());
+    }
+}
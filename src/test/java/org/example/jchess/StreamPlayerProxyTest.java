@@ -0,0 +1,118 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class StreamPlayerProxyTest {
+
+    private static final List<Move> MOVES = List.of(
+            new Move(new Position(4, 6), new Position(4, 4), Piece.PAWN, Color.WHITE, Optional.empty()),
+            new Move(new Position(4, 1), new Position(4, 3), Piece.PAWN, Color.BLACK, Optional.empty()),
+            new Move(new Position(6, 7), new Position(5, 5), Piece.KNIGHT, Color.WHITE, Optional.empty())
+    );
+
+    private MoveSerializer serializer;
+
+    @Before
+    public void setUp() {
+        serializer = new BinaryMoveSerializer();
+    }
+
+    @Test
+    public void framedStreamShouldCarryManyMoves() {
+        var sent = new ByteArrayOutputStream();
+        var sender = StreamPlayerProxy.framed(newBoard(), new ByteArrayInputStream(new byte[0]), sent, serializer, false);
+
+        for (Move move : MOVES) {
+            sender.registerMove(move);
+        }
+
+        var receiver = StreamPlayerProxy.framed(newBoard(), new ByteArrayInputStream(sent.toByteArray()), OutputStream.nullOutputStream(), serializer, false);
+
+        for (Move move : MOVES) {
+            Assert.assertEquals(move, receiver.obtainNextMove());
+        }
+    }
+
+    @Test
+    public void coalescedWritesShouldBeFlushedBeforeWaitingForReply() throws Exception {
+        var reply = ByteBuffer.allocate(16);
+        MoveFrames.write(reply, serializer.serialize(MOVES.get(1)));
+
+        var sent = new ByteArrayOutputStream();
+        var proxy = StreamPlayerProxy.framed(newBoard(), new ByteArrayInputStream(reply.array(), 0, reply.position()), sent, serializer, true);
+
+        proxy.registerMove(MOVES.get(0));
+        Assert.assertEquals(0, sent.size());
+
+        Assert.assertEquals(MOVES.get(1), proxy.obtainNextMove());
+        Assert.assertEquals(MoveFrames.HEADER_BYTES + BinaryMoveSerializer.MOVE_BYTES, sent.size());
+
+        proxy.registerMove(MOVES.get(2));
+        proxy.flush();
+        Assert.assertEquals(2 * (MoveFrames.HEADER_BYTES + BinaryMoveSerializer.MOVE_BYTES), sent.size());
+    }
+
+    @Test
+    public void gameShouldFlushCoalescedMateToRemotePlayer() {
+        // Fool's mate, delivered by the local black player
+        var whiteMoves = frames(
+                new Move(new Position(5, 6), new Position(5, 5), Piece.PAWN, Color.WHITE, Optional.empty()),
+                new Move(new Position(6, 6), new Position(6, 4), Piece.PAWN, Color.WHITE, Optional.empty()));
+        var blackMoves = List.of(
+                new Move(new Position(4, 1), new Position(4, 3), Piece.PAWN, Color.BLACK, Optional.empty()),
+                new Move(new Position(3, 0), new Position(7, 4), Piece.QUEEN, Color.BLACK, Optional.empty()));
+
+        var sent = new ByteArrayOutputStream();
+        var remoteWhite = StreamPlayerProxy.framed(newBoard(), new ByteArrayInputStream(whiteMoves), sent, serializer, true);
+        var localBlack = StreamPlayerProxy.framed(newBoard(), new ByteArrayInputStream(frames(blackMoves.toArray(new Move[0]))),
+                OutputStream.nullOutputStream(), serializer, false);
+        var validator = new BasicMoveValidator();
+
+        var game = new ChessGame(remoteWhite, localBlack, new BasicEngine(validator, new LegalMoveGenerator(), validator),
+                new Board(validator), new NullRenderer());
+        game.run();
+
+        Assert.assertEquals(GameState.CHECKMATE, game.getReport().get().getGameState());
+
+        var receiver = StreamPlayerProxy.framed(newBoard(), new ByteArrayInputStream(sent.toByteArray()), OutputStream.nullOutputStream(), serializer, false);
+
+        for (Move move : blackMoves) {
+            Assert.assertEquals(move, receiver.obtainNextMove());
+        }
+    }
+
+    @Test
+    public void unframedStreamShouldCarryOneMove() {
+        var proxy = new StreamPlayerProxy(newBoard(), new ByteArrayInputStream(serializer.serialize(MOVES.get(0))), OutputStream.nullOutputStream(), serializer);
+
+        Assert.assertEquals(MOVES.get(0), proxy.obtainNextMove());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void truncatedFrameShouldFail() {
+        var proxy = StreamPlayerProxy.framed(newBoard(), new ByteArrayInputStream(new byte[]{0, 2, 1}), OutputStream.nullOutputStream(), serializer, false);
+        proxy.obtainNextMove();
+    }
+
+    private byte[] frames(Move... moves) {
+        var buffer = ByteBuffer.allocate(64);
+
+        for (Move move : moves) {
+            MoveFrames.write(buffer, serializer.serialize(move));
+        }
+
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private Board newBoard() {
+        return new Board(new BasicMoveValidator());
+    }
+}
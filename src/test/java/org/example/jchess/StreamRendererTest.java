@@ -0,0 +1,41 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+public class StreamRendererTest {
+
+    @Test
+    public void shouldWriteWholeFramesToItsOwnStream() {
+        CountingOutputStream out = new CountingOutputStream();
+        new StreamRenderer(out).draw(new Board(new BasicMoveValidator()).getSnapshot());
+
+        String frame = out.bytes.toString(StandardCharsets.UTF_8);
+
+        Assert.assertEquals(1, out.writes);
+        Assert.assertTrue(frame.startsWith("| bR| bN| bB| bQ| bK| bB| bN| bR|\n"));
+        Assert.assertTrue(frame.contains("\n|   |   |   |   |   |   |   |   |\n"));
+        Assert.assertTrue(frame.endsWith("| wR| wN| wB| wQ| wK| wB| wN| wR|\n\n\n\n"));
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int writes;
+
+        @Override
+        public void write(int b) {
+            writes++;
+            bytes.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            writes++;
+            bytes.write(b, off, len);
+        }
+    }
+}
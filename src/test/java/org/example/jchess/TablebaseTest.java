@@ -0,0 +1,127 @@
+package org.example.jchess;
+
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public class TablebaseTest {
+
+    @ClassRule
+    public static TemporaryFolder folder = new TemporaryFolder();
+
+    private static Path directory;
+    private static Tablebase tablebase;
+
+    private final BasicMoveValidator validator = new BasicMoveValidator();
+    private final LegalMoveGenerator generator = new LegalMoveGenerator();
+
+    @BeforeClass
+    public static void generate() throws IOException {
+        directory = folder.getRoot().toPath();
+
+        try (TablebaseGenerator tablebaseGenerator = new TablebaseGenerator(directory, 2)) {
+            tablebaseGenerator.generate("KPvK");
+        }
+
+        tablebase = new Tablebase(directory);
+    }
+
+    @Test
+    public void shouldGenerateDependencies() {
+        Assert.assertTrue(tablebase.getMaterials().containsAll(List.of("KvK", "KQvK", "KRvK", "KBvK", "KNvK", "KPvK")));
+    }
+
+    @Test
+    public void shouldFindLongestMates() throws IOException {
+        // Mate in 10 with a queen and in 16 with a rook
+        Assert.assertEquals(19, longestWin("KQvK"));
+        Assert.assertEquals(31, longestWin("KRvK"));
+        Assert.assertEquals(0, longestWin("KBvK"));
+    }
+
+    @Test
+    public void shouldProbeMates() {
+        Assert.assertEquals(Optional.of(new TablebaseResult(TablebaseResult.Outcome.WIN, 1)),
+                tablebase.probe(Fen.parse("7k/8/6K1/8/8/8/8/1Q6 w - - 0 1")));
+        Assert.assertEquals(Optional.of(new TablebaseResult(TablebaseResult.Outcome.LOSS, 0)),
+                tablebase.probe(Fen.parse("1Q5k/8/6K1/8/8/8/8/8 b - - 0 1")));
+        Assert.assertEquals(Optional.of(new TablebaseResult(TablebaseResult.Outcome.DRAW, 0)),
+                tablebase.probe(Fen.parse("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1")));
+    }
+
+    @Test
+    public void shouldProbeMirroredPositions() {
+        Optional<TablebaseResult> white = tablebase.probe(Fen.parse("4k3/8/8/8/8/8/8/3QK3 w - - 0 1"));
+        Optional<TablebaseResult> black = tablebase.probe(Fen.parse("3qk3/8/8/8/8/8/8/4K3 b - - 0 1"));
+
+        Assert.assertTrue(white.isPresent());
+        Assert.assertEquals(TablebaseResult.Outcome.WIN, white.get().getOutcome());
+        Assert.assertEquals(white, black);
+    }
+
+    @Test
+    public void shouldSolvePawnEndings() {
+        Assert.assertEquals(TablebaseResult.Outcome.WIN, tablebase.probe(Fen.parse("4k3/8/4K3/4P3/8/8/8/8 w - - 0 1")).get().getOutcome());
+        // Results are for the side to move
+        Assert.assertEquals(TablebaseResult.Outcome.LOSS, tablebase.probe(Fen.parse("4k3/8/4K3/4P3/8/8/8/8 b - - 0 1")).get().getOutcome());
+        Assert.assertEquals(TablebaseResult.Outcome.DRAW, tablebase.probe(Fen.parse("4k3/8/8/4K3/4P3/8/8/8 b - - 0 1")).get().getOutcome());
+        Assert.assertEquals(TablebaseResult.Outcome.DRAW, tablebase.probe(Fen.parse("7k/8/8/8/8/8/7P/K7 w - - 0 1")).get().getOutcome());
+    }
+
+    @Test
+    public void shouldNotCoverOtherPositions() {
+        Assert.assertEquals(Optional.empty(), tablebase.probe(Fen.parse("4k3/8/8/8/8/8/8/R3K3 w Q - 0 1")));
+        Assert.assertEquals(Optional.empty(), tablebase.probe(Fen.parse("4k3/8/8/8/8/8/8/2QQK3 w - - 0 1")));
+        Assert.assertEquals(Optional.empty(), tablebase.probe(new Board(validator).getSnapshot()));
+    }
+
+    @Test
+    public void shouldReuseTablesOnDisk() throws IOException {
+        long modified = Files.getLastModifiedTime(directory.resolve("KQvK.tb")).toMillis();
+
+        try (TablebaseGenerator tablebaseGenerator = new TablebaseGenerator(directory, 1)) {
+            tablebaseGenerator.generate("KvKQ");
+        }
+
+        Assert.assertEquals(modified, Files.getLastModifiedTime(directory.resolve("KQvK.tb")).toMillis());
+    }
+
+    @Test
+    public void searchShouldScoreCoveredEndgamesExactly() {
+        BoardSnapshot snapshot = Fen.parse("8/8/8/4k3/8/8/8/R3K3 w - - 0 1");
+        AlphaBetaSearcher searcher = new AlphaBetaSearcher(generator, validator, validator, new MaterialEvaluator(),
+                new TranspositionTable(1), tablebase);
+
+        SearchResult result = searcher.search(snapshot, SearchLimits.depth(2));
+
+        Assert.assertEquals(Searcher.MATE - tablebase.probe(snapshot).get().getPliesToMate(), result.getScore());
+    }
+
+    @Test
+    public void engineShouldAdjudicateTablebaseDraws() {
+        BasicEngine engine = new BasicEngine(validator, generator, validator, tablebase);
+
+        Assert.assertEquals(GameState.DRAW, engine.analyseBoard(Fen.parse("7k/8/8/8/8/8/7P/K7 w - - 0 1")).getGameState());
+        Assert.assertEquals(GameState.NORMAL, engine.analyseBoard(Fen.parse("4k3/8/4K3/4P3/8/8/8/8 w - - 0 1")).getGameState());
+    }
+
+    private static int longestWin(String material) throws IOException {
+        byte[] content = Files.readAllBytes(directory.resolve(material + Tablebase.SUFFIX));
+        int longest = 0;
+
+        for (int i = Tablebase.HEADER_BYTES; i < content.length; i++) {
+            int value = content[i] & 0xFF;
+
+            if (value < Tablebase.LOSS) {
+                longest = Math.max(longest, value);
+            }
+        }
+
+        return longest;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+public class TournamentRunnerTest {
+
+    private static final PlayerFactory CHAOTIC = (board, seed) -> new ChaoticPlayer(board, new LegalMoveGenerator(), seed);
+
+    @Test
+    public void resultsShouldCoverEveryGame() {
+        var result = new TournamentRunner(CHAOTIC, CHAOTIC, 2, 300).run(40, 1);
+
+        Assert.assertEquals(40, result.getGames());
+        Assert.assertEquals(40, result.getWhiteWins() + result.getDraws() + result.getBlackWins());
+        Assert.assertTrue(result.getAveragePlies() > 0);
+        Assert.assertTrue(result.getAveragePlies() <= 300);
+    }
+
+    @Test
+    public void sameSeedShouldGiveSameResultsRegardlessOfThreads() {
+        var sequential = new TournamentRunner(CHAOTIC, CHAOTIC, 1, 200).run(30, 42);
+        var parallel = new TournamentRunner(CHAOTIC, CHAOTIC, 4, 200).run(30, 42);
+
+        Assert.assertEquals(sequential.getWhiteWins(), parallel.getWhiteWins());
+        Assert.assertEquals(sequential.getDraws(), parallel.getDraws());
+        Assert.assertEquals(sequential.getBlackWins(), parallel.getBlackWins());
+        Assert.assertEquals(sequential.getTotalPlies(), parallel.getTotalPlies());
+    }
+
+    @Test
+    public void gamesShouldBeAdjudicatedAtMaxPlies() {
+        var result = new TournamentRunner(CHAOTIC, CHAOTIC, 2, 2).run(10, 7);
+
+        Assert.assertEquals(10, result.getDraws());
+        Assert.assertEquals(20, result.getTotalPlies());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectZeroThreads() {
+        new TournamentRunner(CHAOTIC, CHAOTIC, 0, 100);
+    }
+}
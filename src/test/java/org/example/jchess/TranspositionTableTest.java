@@ -0,0 +1,128 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TranspositionTableTest {
+
+    private TranspositionTable table;
+
+    @Before
+    public void setUp() {
+        table = new TranspositionTable(1);
+    }
+
+    @Test
+    public void shouldReturnStoredEntry() {
+        var move = new Move(new Position(4, 6), new Position(4, 4), Piece.PAWN, Color.WHITE, Optional.empty());
+        long key = 0x1234_5678_9ABC_DEF0L;
+
+        table.store(key, TranspositionTable.packMove(move), -Searcher.MATE + 3, 7, TranspositionTable.UPPER_BOUND);
+        long entry = table.probe(key);
+
+        Assert.assertNotEquals(TranspositionTable.MISS, entry);
+        Assert.assertTrue(TranspositionTable.matches(TranspositionTable.getMove(entry), move));
+        Assert.assertEquals(-Searcher.MATE + 3, TranspositionTable.getScore(entry));
+        Assert.assertEquals(7, TranspositionTable.getDepth(entry));
+        Assert.assertEquals(TranspositionTable.UPPER_BOUND, TranspositionTable.getBound(entry));
+    }
+
+    @Test
+    public void shouldMissUnknownKeys() {
+        table.store(42, TranspositionTable.NO_MOVE, 10, 1, TranspositionTable.EXACT);
+
+        Assert.assertNotEquals(TranspositionTable.MISS, table.probe(42));
+        Assert.assertEquals(TranspositionTable.MISS, table.probe(43));
+        Assert.assertEquals(0.5, table.getHitRate(), 0.0);
+
+        // Same cluster, different position
+        Assert.assertEquals(TranspositionTable.MISS, table.probe(42 + table.getSizeInBytes() / 64 * 7));
+    }
+
+    @Test
+    public void shouldPreferDeeperEntriesFromTheSameSearch() {
+        table.store(42, TranspositionTable.NO_MOVE, 10, 8, TranspositionTable.LOWER_BOUND);
+        table.store(42, TranspositionTable.NO_MOVE, 20, 2, TranspositionTable.LOWER_BOUND);
+        Assert.assertEquals(8, TranspositionTable.getDepth(table.probe(42)));
+
+        table.newSearch();
+        table.store(42, TranspositionTable.NO_MOVE, 20, 2, TranspositionTable.LOWER_BOUND);
+        Assert.assertEquals(2, TranspositionTable.getDepth(table.probe(42)));
+    }
+
+    @Test
+    public void shouldEvictShallowestEntryWhenClusterIsFull() {
+        long clusters = table.getSizeInBytes() / 64;
+
+        // All of these keys land in cluster 0
+        for (int i = 0; i < 5; i++) {
+            table.store(i * clusters, TranspositionTable.NO_MOVE, i, 10 - i, TranspositionTable.EXACT);
+        }
+
+        Assert.assertEquals(1, table.getCollisions());
+        Assert.assertEquals(TranspositionTable.MISS, table.probe(3 * clusters));
+        Assert.assertNotEquals(TranspositionTable.MISS, table.probe(4 * clusters));
+        Assert.assertNotEquals(TranspositionTable.MISS, table.probe(0));
+    }
+
+    @Test
+    public void concurrentAccessShouldNeverReturnForeignEntries() throws InterruptedException {
+        var failures = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < 4; t++) {
+            long seed = t;
+            threads.add(new Thread(() -> {
+                var random = new Random(seed);
+
+                for (int i = 0; i < 200_000; i++) {
+                    long key = random.nextInt(50_000) * 0x9E37_79B9_7F4A_7C15L;
+                    int score = (int) (key & 0xFFFF);
+                    long entry = table.probe(key);
+
+                    if (entry != TranspositionTable.MISS && TranspositionTable.getScore(entry) != score) {
+                        failures.incrementAndGet();
+                    }
+
+                    table.store(key, TranspositionTable.NO_MOVE, score, random.nextInt(20), TranspositionTable.EXACT);
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(0, failures.get());
+        Assert.assertTrue(table.getHitRate() > 0);
+        Assert.assertTrue(table.getFillRate() > 0);
+    }
+
+    @Test
+    public void searcherShouldFindTheSameMoveWithFewerNodes() {
+        var validator = new BasicMoveValidator();
+        var generator = new LegalMoveGenerator();
+        var snapshot = Fen.parse("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+
+        var plain = new AlphaBetaSearcher(generator, validator, validator, new MaterialEvaluator());
+        var cached = new AlphaBetaSearcher(generator, validator, validator, new MaterialEvaluator(), table);
+
+        var expected = plain.search(snapshot, SearchLimits.depth(4));
+        var actual = cached.search(snapshot, SearchLimits.depth(4));
+
+        Assert.assertEquals(expected.getScore(), actual.getScore());
+        Assert.assertTrue(actual.getNodes() < expected.getNodes());
+
+        var mate = cached.search(Fen.parse("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1"), SearchLimits.depth(4));
+        Assert.assertEquals(Searcher.MATE - 1, mate.getScore());
+    }
+}
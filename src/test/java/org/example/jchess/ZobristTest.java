@@ -0,0 +1,71 @@
+package org.example.jchess;
+
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Random;
+
+public class ZobristTest {
+
+    private BasicMoveValidator validator;
+    private MoveGenerator generator;
+
+    @Before
+    public void setUp() {
+        validator = new BasicMoveValidator();
+        generator = new PseudoLegalMoveGenerator(validator);
+    }
+
+    @Test
+    public void incrementalKeyShouldMatchFullRecomputation() {
+        var random = new Random(11);
+        var snapshot = new BoardSnapshot(BoardHelper.getStartingBoard(), new ArrayList<>());
+
+        for (int ply = 0; ply < 200; ply++) {
+            var moves = generator.generateValidMoves(snapshot);
+
+            if (moves.isEmpty()) {
+                break;
+            }
+
+            snapshot = validator.applyMove(snapshot, moves.get(random.nextInt(moves.size())));
+            var recomputed = new BoardSnapshot(snapshot.getBitboard(), snapshot.getMovesHistory());
+
+            Assert.assertEquals(recomputed.getKey(), snapshot.getKey());
+            Assert.assertEquals(recomputed, snapshot);
+        }
+    }
+
+    @Test
+    public void transpositionsShouldShareKey() {
+        var start = new BoardSnapshot(BoardHelper.getStartingBoard(), new ArrayList<>());
+        var knightOut = move(6, 7, 5, 5, Piece.KNIGHT, Color.WHITE);
+        var knightBack = move(5, 5, 6, 7, Piece.KNIGHT, Color.WHITE);
+        var blackKnightOut = move(6, 0, 5, 2, Piece.KNIGHT, Color.BLACK);
+        var blackKnightBack = move(5, 2, 6, 0, Piece.KNIGHT, Color.BLACK);
+
+        var snapshot = start;
+        for (Move move : new Move[]{knightOut, blackKnightOut, knightBack, blackKnightBack}) {
+            snapshot = validator.applyMove(snapshot, move);
+        }
+
+        Assert.assertEquals(start.getKey(), snapshot.getKey());
+        Assert.assertEquals(start, snapshot);
+        Assert.assertEquals(start.hashCode(), snapshot.hashCode());
+    }
+
+    @Test
+    public void sideToMoveShouldChangeKey() {
+        var board = Bitboard.fromTiles(BoardHelper.getStartingBoard());
+
+        Assert.assertNotEquals(Zobrist.compute(board, Color.WHITE, CastlingRights.ALL, Bitboard.NO_SQUARE),
+                               Zobrist.compute(board, Color.BLACK, CastlingRights.ALL, Bitboard.NO_SQUARE));
+        Assert.assertNotEquals(Zobrist.compute(board, Color.WHITE, CastlingRights.ALL, Bitboard.NO_SQUARE),
+                               Zobrist.compute(board, Color.WHITE, CastlingRights.NONE, Bitboard.NO_SQUARE));
+    }
+
+    private Move move(int srcX, int srcY, int destX, int destY, Piece piece, Color color) {
+        return new Move(new Position(srcX, srcY), new Position(destX, destY), piece, color, Optional.empty());
+    }
+}